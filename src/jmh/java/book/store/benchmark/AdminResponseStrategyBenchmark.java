@@ -0,0 +1,58 @@
+package book.store.benchmark;
+
+import book.store.telegram.strategy.response.AdminResponseCache;
+import book.store.telegram.strategy.response.AdminResponseService;
+import book.store.telegram.strategy.response.AdminResponseStrategy;
+import book.store.telegram.strategy.response.impl.AdminGetBookResponseService;
+import book.store.telegram.strategy.response.impl.AdminGetCategoryResponseService;
+import book.store.telegram.strategy.response.impl.AdminGetOrderItemResponseService;
+import book.store.telegram.strategy.response.impl.AdminGetOrderResponseService;
+import book.store.telegram.strategy.response.impl.AdminGetPaymentResponseService;
+import book.store.telegram.strategy.response.impl.AdminGetUserResponseService;
+import book.store.telegram.strategy.response.impl.HelpCommandResponseService;
+import book.store.telegram.strategy.response.impl.StartCommandResponseService;
+import book.store.telegram.strategy.response.impl.UnknownCommandResponseService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdminResponseStrategyBenchmark {
+    @Param({
+            "/start",
+            "Get info about a book with id: 42",
+            "Get info about a payment with id: 42",
+            "Unknown text"
+    })
+    private String text;
+    private final AdminResponseCache responseCache = new AdminResponseCache(30_000, 1_000);
+    private final AdminResponseStrategy responseStrategy = new AdminResponseStrategy(List.of(
+            new AdminGetBookResponseService(null, responseCache),
+            new AdminGetCategoryResponseService(null, responseCache),
+            new AdminGetOrderItemResponseService(null, responseCache),
+            new AdminGetOrderResponseService(null, responseCache),
+            new AdminGetPaymentResponseService(null, responseCache),
+            new AdminGetUserResponseService(null, responseCache),
+            new HelpCommandResponseService(),
+            new StartCommandResponseService(),
+            new UnknownCommandResponseService()));
+
+    @Benchmark
+    public AdminResponseService getResponseService() {
+        return responseStrategy.getResponseService(text);
+    }
+}
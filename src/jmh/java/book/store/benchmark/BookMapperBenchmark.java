@@ -0,0 +1,55 @@
+package book.store.benchmark;
+
+import book.store.dto.book.BookResponseDto;
+import book.store.mapper.BookMapper;
+import book.store.mapper.impl.BookMapperImpl;
+import book.store.model.Book;
+import book.store.model.Category;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookMapperBenchmark {
+    @Param({"1", "10"})
+    private int categoriesCount;
+    private final BookMapper bookMapper = new BookMapperImpl();
+    private Book book;
+
+    @Setup
+    public void setUp() {
+        book = new Book();
+        book.setId(1L);
+        book.setTitle("To Kill a Mockingbird");
+        book.setAuthor("Harper Lee");
+        book.setIsbn("9780061120084");
+        book.setPrice(BigDecimal.valueOf(10.99));
+        book.setDescription("A classic novel set in the American South during the 1930s.");
+        book.setCoverImage("to_kill_a_mockingbird.jpg");
+        book.setCategories(LongStream.rangeClosed(1, categoriesCount)
+                .mapToObj(Category::new)
+                .collect(Collectors.toSet()));
+    }
+
+    @Benchmark
+    public BookResponseDto toResponseDto() {
+        return bookMapper.toResponseDto(book);
+    }
+}
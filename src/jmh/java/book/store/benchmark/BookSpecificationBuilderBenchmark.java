@@ -0,0 +1,59 @@
+package book.store.benchmark;
+
+import book.store.dto.book.BookSearchParametersDto;
+import book.store.model.Book;
+import book.store.repository.specification.book.BookLikeSpecificationProviderManager;
+import book.store.repository.specification.book.BookSpecificationBuilder;
+import book.store.repository.specification.book.impl.AuthorSpecificationProvider;
+import book.store.repository.specification.book.impl.CategoriesSpecificationProvider;
+import book.store.repository.specification.book.impl.DescriptionSpecificationProvider;
+import book.store.repository.specification.book.impl.PriceSpecificationProvider;
+import book.store.repository.specification.book.impl.TitleSpecificationProvider;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookSpecificationBuilderBenchmark {
+    private final BookSpecificationBuilder specificationBuilder = new BookSpecificationBuilder(
+            new BookLikeSpecificationProviderManager(List.of(
+                    new TitleSpecificationProvider(),
+                    new AuthorSpecificationProvider(),
+                    new DescriptionSpecificationProvider())),
+            new PriceSpecificationProvider(),
+            new CategoriesSpecificationProvider());
+    private final BookSearchParametersDto titleParams = new BookSearchParametersDto(
+            "gatsby", null, null, null, null);
+    private final BookSearchParametersDto allParams = new BookSearchParametersDto(
+            "gatsby",
+            "fitzgerald",
+            "twenties",
+            List.of(BigDecimal.ONE, BigDecimal.TEN),
+            Set.of(1L, 2L));
+
+    @Benchmark
+    public Specification<Book> buildByTitle() {
+        return specificationBuilder.build(titleParams);
+    }
+
+    @Benchmark
+    public Specification<Book> buildByAllParams() {
+        return specificationBuilder.build(allParams);
+    }
+}
@@ -0,0 +1,54 @@
+package book.store.benchmark;
+
+import book.store.service.book.search.CategoryBitmapIndex;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryBitmapIndexBenchmark {
+    private static final int BOOKS = 100_000;
+    private static final int CATEGORIES = 100;
+    private final CategoryBitmapIndex categoryIndex = new CategoryBitmapIndex();
+    private final List<Long> categoriesIds = List.of(1L, 2L, 3L);
+    private final Set<Long> matchingIds = new HashSet<>();
+
+    @Setup
+    public void setUp() {
+        for (long bookId = 1; bookId <= BOOKS; bookId++) {
+            categoryIndex.add(bookId % CATEGORIES, bookId);
+            categoryIndex.add((bookId * 7) % CATEGORIES, bookId);
+            if (bookId % 100 == 0) {
+                matchingIds.add(bookId);
+            }
+        }
+    }
+
+    @Benchmark
+    public Set<Long> findThreeCategories() {
+        return categoryIndex.find(categoriesIds);
+    }
+
+    @Benchmark
+    public Set<Long> retainThousandIdsByThreeCategories() {
+        Set<Long> ids = new HashSet<>(matchingIds);
+        categoryIndex.retain(ids, categoriesIds);
+        return ids;
+    }
+}
@@ -0,0 +1,128 @@
+package book.store.benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares Hibernate inserts with IDENTITY ids (no JDBC batching possible)
+ * and pooled sequence ids with JDBC batching, against an in-memory H2 database.
+ * Scores are inserted rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 15, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGenerationBenchmark {
+    private static final int ROWS = 500;
+    private static final int BATCH_SIZE = 50;
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(IdentityBook.class)
+                .addAnnotatedClass(PooledBook.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("TRUNCATE TABLE identity_books").executeUpdate();
+            session.createNativeMutationQuery("TRUNCATE TABLE pooled_books").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertWithIdentity() {
+        insert(IdentityBook::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertWithPooledSequence() {
+        insert(PooledBook::new);
+    }
+
+    private void insert(Supplier<Object> bookSupplier) {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(bookSupplier.get());
+                if (i % BATCH_SIZE == BATCH_SIZE - 1) {
+                    flushAndClear(session);
+                }
+            }
+        });
+    }
+
+    private void flushAndClear(Session session) {
+        session.flush();
+        session.clear();
+    }
+
+    @Entity
+    @Table(name = "identity_books")
+    public static class IdentityBook {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private String title = "To Kill a Mockingbird";
+        private BigDecimal price = BigDecimal.TEN;
+    }
+
+    @Entity
+    @Table(name = "pooled_books")
+    public static class PooledBook {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_books_seq")
+        @SequenceGenerator(name = "pooled_books_seq", sequenceName = "pooled_books_seq",
+                allocationSize = BATCH_SIZE)
+        private Long id;
+        private String title = "To Kill a Mockingbird";
+        private BigDecimal price = BigDecimal.TEN;
+    }
+}
@@ -0,0 +1,74 @@
+package book.store.benchmark;
+
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Merges a JMH json result into the baseline. Entries keep only the benchmark settings and
+ * scores rounded to 4 significant digits, without the jvm path, jdk version or raw data,
+ * and the entries of benchmarks that weren't run are kept as they are,
+ * so a diff of the baseline shows only score changes of the benchmarks that were run.
+ */
+public final class JmhBaselineWriter {
+    private static final List<String> FIELDS = List.of("benchmark", "mode", "threads", "forks",
+            "warmupIterations", "warmupTime", "measurementIterations", "measurementTime", "params");
+    private static final List<String> METRIC_FIELDS = List.of("score", "scoreError", "scoreUnit");
+    private static final MathContext PRECISION = new MathContext(4);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectWriter WRITER = OBJECT_MAPPER.writer(new DefaultPrettyPrinter()
+            .withArrayIndenter(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE));
+
+    private JmhBaselineWriter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path result = Path.of(args[0]);
+        Path baseline = Path.of(args[1]);
+        Map<String, ObjectNode> entries = new TreeMap<>();
+        if (Files.exists(baseline)) {
+            read(baseline, entries);
+        }
+        read(result, entries);
+        ArrayNode merged = OBJECT_MAPPER.createArrayNode();
+        entries.values().forEach(merged::add);
+        Files.writeString(baseline, WRITER.writeValueAsString(merged) + System.lineSeparator());
+    }
+
+    private static void read(Path path, Map<String, ObjectNode> entries) throws IOException {
+        for (JsonNode entry : OBJECT_MAPPER.readTree(path.toFile())) {
+            String key = entry.path("benchmark").asText() + entry.path("params");
+            entries.put(key, normalize(entry));
+        }
+    }
+
+    private static ObjectNode normalize(JsonNode entry) {
+        ObjectNode normalized = OBJECT_MAPPER.createObjectNode();
+        FIELDS.stream()
+                .filter(entry::has)
+                .forEach(field -> normalized.set(field, entry.get(field)));
+        ObjectNode metric = normalized.putObject("primaryMetric");
+        JsonNode primaryMetric = entry.path("primaryMetric");
+        for (String field : METRIC_FIELDS) {
+            JsonNode value = primaryMetric.path(field);
+            if (value.isNumber()) {
+                metric.put(field, new BigDecimal(value.asText()).round(PRECISION).doubleValue());
+            } else if (!value.isMissingNode()) {
+                metric.set(field, value);
+            }
+        }
+        return normalized;
+    }
+}
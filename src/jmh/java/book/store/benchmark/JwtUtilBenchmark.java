@@ -0,0 +1,64 @@
+package book.store.benchmark;
+
+import book.store.security.JwtUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+    private static final String SECRET = "benchmarkSecretKeyThatIsLongEnoughForHmacSha256Signing";
+    private static final long EXPIRATION = TimeUnit.HOURS.toMillis(1);
+    private static final String EMAIL = "admin@example.com";
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION, 10_000L);
+        token = jwtUtil.generateToken(EMAIL);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(EMAIL);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return jwtUtil.isValid(token);
+    }
+
+    /**
+     * Measures the first check of a token, with an empty verified tokens cache
+     * built outside the measured call.
+     */
+    @Benchmark
+    public boolean isValidNotVerifiedYet(EmptyCache emptyCache) {
+        return emptyCache.jwtUtil.isValid(token);
+    }
+
+    @State(Scope.Thread)
+    public static class EmptyCache {
+        private JwtUtil jwtUtil;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            jwtUtil = new JwtUtil(SECRET, EXPIRATION, 10_000L);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package book.store.benchmark;
+
+import book.store.model.OrderItem;
+import book.store.util.PriceCalculator;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the order total price aggregation used by OrderServiceImpl.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderPriceBenchmark {
+    @Param({"1", "10", "100"})
+    private int itemsCount;
+    private final PriceCalculator priceCalculator = new PriceCalculator();
+    private Set<OrderItem> orderItems;
+
+    @Setup
+    public void setUp() {
+        orderItems = new HashSet<>();
+        for (int i = 1; i <= itemsCount; i++) {
+            OrderItem orderItem = new OrderItem();
+            orderItem.setId((long) i);
+            orderItem.setQuantity((long) i % 3 + 1);
+            orderItem.setPrice(BigDecimal.valueOf(i * 1099L % 5000, 2));
+            orderItems.add(orderItem);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal getTotalPrice() {
+        return priceCalculator.getTotalPrice(orderItems, OrderItem::getPrice);
+    }
+}
@@ -0,0 +1,101 @@
+package book.store.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local stand-in for the Telegram Bot API, so the bot can run offline in load tests with
+ * telegram.bot.base-url=http://localhost:{port}/bot. Answers getUpdates with no updates,
+ * accepts deleteWebhook and counts every sendMessage call.
+ * Runs in its own process, see the Benchmarks section of the README.
+ */
+@Slf4j
+public class MockTelegramServer {
+    private static final int DEFAULT_PORT = 8081;
+    private static final long GET_UPDATES_DELAY_MILLIS = 1000;
+    private static final String OK_TRUE = "{\"ok\":true,\"result\":true}";
+    private static final String OK_EMPTY = "{\"ok\":true,\"result\":[]}";
+    private final ObjectMapper objectMapper;
+    private final HttpServer server;
+    private final AtomicLong sentMessagesCount = new AtomicLong();
+
+    public MockTelegramServer(ObjectMapper objectMapper, int port) throws IOException {
+        this.objectMapper = objectMapper;
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        log.info("Mock Telegram server is listening on port {}", port);
+    }
+
+    public static void main(String[] args) throws IOException {
+        // without TCP_NODELAY every small response waits for a delayed ACK of about 40 ms,
+        // the property is JVM-wide, so it is set only in the process of the mock server
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        MockTelegramServer server = new MockTelegramServer(new ObjectMapper(), port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> log.info(
+                "Mock Telegram server received {} messages", server.getSentMessagesCount())));
+    }
+
+    public long getSentMessagesCount() {
+        return sentMessagesCount.get();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            String path = exchange.getRequestURI().getPath();
+            String method = path.substring(path.lastIndexOf('/') + 1);
+            String response;
+            if (method.equalsIgnoreCase("sendMessage")) {
+                response = sendMessage(objectMapper.readTree(body));
+            } else if (method.equalsIgnoreCase("getUpdates")) {
+                sleep();
+                response = OK_EMPTY;
+            } else {
+                response = OK_TRUE;
+            }
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private String sendMessage(JsonNode request) throws IOException {
+        long messageId = sentMessagesCount.incrementAndGet();
+        Map<String, Object> message = Map.of(
+                "message_id", messageId,
+                "date", Instant.now().getEpochSecond(),
+                "chat", Map.of("id", request.path("chat_id").asLong(), "type", "private"),
+                "text", request.path("text").asText());
+        return objectMapper.writeValueAsString(Map.of("ok", true, "result", message));
+    }
+
+    private void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(GET_UPDATES_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
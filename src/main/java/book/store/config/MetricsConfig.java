@@ -0,0 +1,17 @@
+package book.store.config;
+
+import book.store.metrics.QueryCountInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(
+            QueryCountInspector queryCountInspector) {
+        return properties -> properties.put(
+                AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+    }
+}
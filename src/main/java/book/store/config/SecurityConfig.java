@@ -3,10 +3,16 @@ package book.store.config;
 import static org.springframework.security.config.Customizer.withDefaults;
 
 import book.store.security.JwtAuthenticationFilter;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,7 +22,9 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 
 @EnableMethodSecurity
 @Configuration
@@ -24,6 +32,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    @Value("${management.prometheus.scraper-addresses:127.0.0.1,::1}")
+    private List<String> scraperAddresses;
 
     @Bean
     public PasswordEncoder getPasswordEncoder() {
@@ -40,11 +50,16 @@ public class SecurityConfig {
                         auth -> auth
                                 .requestMatchers(
                                         "/authentication/**",
+                                        "/actuator/health",
                                         "/error",
                                         "/swagger-ui/**",
                                         "/books/**",
                                         "/categories/**")
                                 .permitAll()
+                                .requestMatchers("/actuator/prometheus")
+                                .access(scraperOrAdmin())
+                                .requestMatchers("/actuator/**")
+                                .hasRole("ADMIN")
                                 .anyRequest()
                                 .authenticated()
                 )
@@ -58,6 +73,19 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * Prometheus scrapes without credentials, so it is trusted by its address instead.
+     */
+    private AuthorizationManager<RequestAuthorizationContext> scraperOrAdmin() {
+        List<IpAddressMatcher> scrapers = scraperAddresses.stream()
+                .map(IpAddressMatcher::new)
+                .toList();
+        AuthorizationManager<RequestAuthorizationContext> scraper = (authentication, context) ->
+                new AuthorizationDecision(scrapers.stream()
+                        .anyMatch(matcher -> matcher.matches(context.getRequest())));
+        return AuthorizationManagers.anyOf(scraper, AuthorityAuthorizationManager.hasRole("ADMIN"));
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(
             AuthenticationConfiguration authenticationConfiguration
@@ -1,6 +1,7 @@
 package book.store.config;
 
 import book.store.telegram.BookStoreTelegramBot;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.telegram.telegrambots.meta.TelegramBotsApi;
@@ -8,6 +9,8 @@ import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 
 @Configuration
+@ConditionalOnProperty(name = "notification.transport", havingValue = "telegram",
+        matchIfMissing = true)
 public class TelegramBotConfig {
     @Bean
     public TelegramBotsApi telegramBotsApi(BookStoreTelegramBot telegramBot)
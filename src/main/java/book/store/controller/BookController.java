@@ -1,34 +1,58 @@
 package book.store.controller;
 
+import static book.store.service.book.bulk.BookImportService.APPLICATION_NDJSON;
+import static book.store.service.book.bulk.BookImportService.TEXT_CSV;
+
 import book.store.dto.book.BookCreateRequestDto;
+import book.store.dto.book.BookFacet;
+import book.store.dto.book.BookFacetedSearchResultDto;
+import book.store.dto.book.BookImportResultDto;
 import book.store.dto.book.BookResponseDto;
 import book.store.dto.book.BookSearchParametersDto;
 import book.store.dto.book.BookUpdateDto;
+import book.store.dto.cursor.CursorPageDto;
 import book.store.service.book.BookService;
+import book.store.service.book.bulk.BookExportService;
+import book.store.service.book.bulk.BookImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Books controller", description = "Endpoints for managing books")
 @RequiredArgsConstructor
 @RestController
+@Validated
 @RequestMapping("/books")
 public class BookController {
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final BookExportService bookExportService;
 
     @GetMapping
     @Operation(summary = "Get all books with pageable sorting")
@@ -36,6 +60,30 @@ public class BookController {
         return bookService.getAll(pageable);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "Get books after a cursor",
+            description = "Keyset pagination by id. Pass nextCursor of a page as 'after'")
+    public CursorPageDto<BookResponseDto> getAllAfter(
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return bookService.getAllAfter(after, size);
+    }
+
+    @GetMapping(value = "/export", produces = {APPLICATION_NDJSON, TEXT_CSV})
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Export all books",
+            description = "Endpoint for streaming the whole catalog as NDJSON, "
+                    + "or as CSV when text/csv is accepted, in the format of the bulk import. "
+                    + "Allowed for admins only")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = APPLICATION_NDJSON)
+            List<MediaType> acceptedTypes) {
+        MediaType contentType = bookExportService.getContentType(acceptedTypes);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .body(output -> bookExportService.exportBooks(output, contentType));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get a book by id")
     public BookResponseDto getBookById(@PathVariable Long id) {
@@ -50,6 +98,19 @@ public class BookController {
         return bookService.search(parametersDto, pageable);
     }
 
+    @GetMapping("/search/faceted")
+    @Operation(summary = "Find books by params with facets",
+            description = "Returns found books with numbers of all matching books "
+                    + "by category and by price bucket. Each facet is counted only "
+                    + "if it is requested, e.g. facets=CATEGORIES,PRICE")
+    public BookFacetedSearchResultDto searchFaceted(
+            @RequestBody BookSearchParametersDto parametersDto,
+            @RequestParam(required = false) Set<BookFacet> facets,
+            Pageable pageable) {
+        return bookService.searchFaceted(
+                parametersDto, facets == null ? Set.of() : facets, pageable);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     @PreAuthorize("hasRole('ROLE_ADMIN')")
@@ -59,6 +120,17 @@ public class BookController {
         return bookService.create(requestDto);
     }
 
+    @PostMapping(value = "/bulk", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Import books in bulk",
+            description = "Endpoint for inserting books from a CSV or NDJSON body, "
+                    + "one book per row. Allowed for admins only")
+    public BookImportResultDto importBooks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        return bookImportService.importBooks(body, contentType);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @Operation(summary = "Update an existing book",
@@ -1,5 +1,6 @@
 package book.store.controller;
 
+import book.store.dto.cursor.CursorPageDto;
 import book.store.dto.order.OrderResponseDto;
 import book.store.dto.order.OrderWithoutOrderItemsResponseDto;
 import book.store.dto.order.item.CreateOrderItemRequestDto;
@@ -8,11 +9,14 @@ import book.store.service.order.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -24,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "Orders controller", description = "Endpoint for managing orders")
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/orders")
 public class OrderController {
@@ -127,6 +132,20 @@ public class OrderController {
         return orderService.getHistory(getUser(authentication), pageable);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "Get your orders history after a cursor",
+            description = """
+                    Keyset pagination by order id, without order items.
+                    
+                    Pass nextCursor of a page as 'after' to get the next one
+                    """)
+    public CursorPageDto<OrderWithoutOrderItemsResponseDto> getHistoryAfter(
+            Authentication authentication,
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return orderService.getHistoryAfter(getUser(authentication), after, size);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get a specific order",
             description = """
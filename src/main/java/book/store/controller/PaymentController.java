@@ -1,17 +1,21 @@
 package book.store.controller;
 
+import book.store.dto.cursor.CursorPageDto;
 import book.store.dto.payment.PaymentResponseDto;
 import book.store.model.User;
 import book.store.service.payment.PaymentService;
 import com.stripe.exception.StripeException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.net.MalformedURLException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -20,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "Payments controller", description = "Endpoints for managing payments")
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/payments")
 public class PaymentController {
@@ -61,6 +66,18 @@ public class PaymentController {
         return paymentService.getUserPayments(userId, pageable);
     }
 
+    @Operation(summary = "Get user's payments after a cursor",
+            description = "Keyset pagination by payment id."
+                    + " Pass nextCursor of a page as 'after'. Allowed for admin only")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/cursor")
+    public CursorPageDto<PaymentResponseDto> getUserPaymentsAfter(
+            @RequestParam(name = "user_id") Long userId,
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return paymentService.getUserPaymentsAfter(userId, after, size);
+    }
+
     private User getUser(Authentication authentication) {
         return (User) authentication.getPrincipal();
     }
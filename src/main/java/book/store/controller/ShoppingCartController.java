@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -52,7 +53,7 @@ public class ShoppingCartController {
 
     @GetMapping("/price")
     @Operation(summary = "Get the total price of all your items added to the shopping cart")
-    public Double getPrice(Authentication authentication) {
+    public BigDecimal getPrice(Authentication authentication) {
         return shoppingCartService.getPrice(getUser(authentication));
     }
 
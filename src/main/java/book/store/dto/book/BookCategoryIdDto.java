@@ -0,0 +1,7 @@
+package book.store.dto.book;
+
+public record BookCategoryIdDto(
+        Long bookId,
+        Long categoryId
+) {
+}
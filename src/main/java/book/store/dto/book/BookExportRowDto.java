@@ -0,0 +1,19 @@
+package book.store.dto.book;
+
+import java.math.BigDecimal;
+
+/**
+ * A book joined with one of its categories. A book with several categories spans
+ * consecutive rows, a book without categories has a single row with no category id.
+ */
+public record BookExportRowDto(
+        Long id,
+        String title,
+        String author,
+        String isbn,
+        BigDecimal price,
+        String description,
+        String coverImage,
+        Long categoryId
+) {
+}
@@ -0,0 +1,9 @@
+package book.store.dto.book;
+
+/**
+ * Facets of a search that can be requested, each of them costs one more query.
+ */
+public enum BookFacet {
+    CATEGORIES,
+    PRICE
+}
@@ -0,0 +1,17 @@
+package book.store.dto.book;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of found books with facets counted over all books matching the same params.
+ * Facets that were not requested are null.
+ *
+ * @param categoriesCounts numbers of books by category ids
+ */
+public record BookFacetedSearchResultDto(
+        List<BookResponseDto> books,
+        Map<Long, Long> categoriesCounts,
+        List<PriceBucketDto> priceBuckets
+) {
+}
@@ -0,0 +1,7 @@
+package book.store.dto.book;
+
+public record BookImportErrorDto(
+        long line,
+        String message
+) {
+}
@@ -0,0 +1,14 @@
+package book.store.dto.book;
+
+import java.util.List;
+
+/**
+ *
+ * @param errors errors of the first rejected rows, their number is limited
+ */
+public record BookImportResultDto(
+        long imported,
+        long failed,
+        List<BookImportErrorDto> errors
+) {
+}
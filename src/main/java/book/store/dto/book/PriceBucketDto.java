@@ -0,0 +1,14 @@
+package book.store.dto.book;
+
+import java.math.BigDecimal;
+
+/**
+ * Number of books priced from {@code from} inclusive to {@code to} exclusive.
+ * The last bucket has no upper bound.
+ */
+public record PriceBucketDto(
+        BigDecimal from,
+        BigDecimal to,
+        long count
+) {
+}
@@ -0,0 +1,15 @@
+package book.store.dto.cursor;
+
+import java.util.List;
+
+/**
+ *
+ * @param nextCursor id of the last element, pass it as 'after' to get the next page
+ * @param hasNext whether there are more elements after this page
+ */
+public record CursorPageDto<T>(
+        List<T> content,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
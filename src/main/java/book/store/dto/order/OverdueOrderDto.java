@@ -0,0 +1,13 @@
+package book.store.dto.order;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record OverdueOrderDto(
+        Long id,
+        Long userId,
+        LocalDate orderDate,
+        BigDecimal price,
+        String shippingAddress
+) {
+}
@@ -0,0 +1,7 @@
+package book.store.exception;
+
+public class NotificationDeliveryException extends RuntimeException {
+    public NotificationDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,30 @@
+package book.store.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts SQL statements prepared by Hibernate on the current thread.
+ */
+@Component
+public class QueryCountInspector implements StatementInspector {
+    private final ThreadLocal<int[]> counter = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        counter.get()[0]++;
+        return sql;
+    }
+
+    public void reset() {
+        counter.get()[0] = 0;
+    }
+
+    public int getCount() {
+        return counter.get()[0];
+    }
+
+    public void clear() {
+        counter.remove();
+    }
+}
@@ -0,0 +1,62 @@
+package book.store.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records how many entities every repository call returns.
+ * Invocation timings are recorded by Spring Boot as spring.data.repository.invocations.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+    private static final String ROWS_SUMMARY = "book.store.repository.rows";
+    private static final String REPOSITORY_PACKAGE = "book.store.repository";
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* book.store.repository.*Repository.*(..))"
+            + " && !within(book.store.repository.*Impl)")
+    public Object countRows(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+        Integer rows = getRows(result);
+        if (rows != null) {
+            DistributionSummary.builder(ROWS_SUMMARY)
+                    .tag("repository", getRepositoryName(joinPoint))
+                    .tag("method", joinPoint.getSignature().getName())
+                    .register(meterRegistry)
+                    .record(rows);
+        }
+        return result;
+    }
+
+    private String getRepositoryName(ProceedingJoinPoint joinPoint) {
+        return Arrays.stream(joinPoint.getTarget().getClass().getInterfaces())
+                .filter(type -> type.getPackageName().equals(REPOSITORY_PACKAGE))
+                .map(Class::getSimpleName)
+                .findFirst()
+                .orElseGet(() -> joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    private Integer getRows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,13 @@
+package book.store.repository;
+
+import book.store.dto.book.BookExportRowDto;
+import org.hibernate.ScrollableResults;
+
+public interface BookExportRepository {
+    /**
+     * Opens a forward-only cursor over all books ordered by id, selecting plain values
+     * instead of entities, so nothing is kept in the persistence context while scrolling.
+     * Should be called and fully consumed inside a transaction.
+     */
+    ScrollableResults<BookExportRowDto> scrollAllWithCategoriesIds(int fetchSize);
+}
@@ -0,0 +1,32 @@
+package book.store.repository;
+
+import book.store.dto.book.BookExportRowDto;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+
+@RequiredArgsConstructor
+public class BookExportRepositoryImpl implements BookExportRepository {
+    private static final String SCROLL_ALL_QUERY = """
+            SELECT new book.store.dto.book.BookExportRowDto(
+                book.id, book.title, book.author, book.isbn, book.price,
+                book.description, book.coverImage, category.id)
+            FROM Book book
+            LEFT JOIN book.categories category
+            ORDER BY book.id
+            """;
+    private final EntityManager entityManager;
+
+    @Override
+    public ScrollableResults<BookExportRowDto> scrollAllWithCategoriesIds(int fetchSize) {
+        return entityManager.unwrap(Session.class)
+                .createSelectionQuery(SCROLL_ALL_QUERY, BookExportRowDto.class)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY);
+    }
+}
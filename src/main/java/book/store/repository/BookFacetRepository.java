@@ -0,0 +1,18 @@
+package book.store.repository;
+
+import book.store.model.Book;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface BookFacetRepository {
+    /**
+     * Counts books matching the specification by category ids with one GROUP BY query.
+     */
+    Map<Long, Long> countByCategory(Specification<Book> specification);
+
+    /**
+     * Counts books matching the specification by distinct prices with one GROUP BY query.
+     */
+    Map<BigDecimal, Long> countByPrice(Specification<Book> specification);
+}
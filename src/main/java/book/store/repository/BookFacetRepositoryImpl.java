@@ -0,0 +1,72 @@
+package book.store.repository;
+
+import book.store.model.Book;
+import book.store.model.Category;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+@RequiredArgsConstructor
+public class BookFacetRepositoryImpl implements BookFacetRepository {
+    private static final String ID = "id";
+    private static final String PRICE = "price";
+    private static final String CATEGORIES = "categories";
+    private final EntityManager entityManager;
+
+    @Override
+    public Map<Long, Long> countByCategory(Specification<Book> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Book> root = query.from(Book.class);
+        Join<Book, Category> category = root.join(CATEGORIES);
+        return count(query, root, category.get(ID), specification);
+    }
+
+    @Override
+    public Map<BigDecimal, Long> countByPrice(Specification<Book> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Book> root = query.from(Book.class);
+        return count(query, root, root.get(PRICE), specification);
+    }
+
+    /**
+     * Matching books are filtered in a subquery,
+     * so joins made by the specification don't multiply counted rows.
+     */
+    private <K> Map<K, Long> count(
+            CriteriaQuery<Tuple> query,
+            Root<Book> root,
+            Expression<K> key,
+            Specification<Book> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        query.multiselect(key, criteriaBuilder.count(root));
+        if (specification != null) {
+            Subquery<Long> matching = query.subquery(Long.class);
+            Root<Book> book = matching.from(Book.class);
+            Predicate predicate = specification.toPredicate(book, query, criteriaBuilder);
+            if (predicate != null) {
+                matching.select(book.get(ID)).where(predicate);
+                query.where(root.get(ID).in(matching));
+            }
+        }
+        query.groupBy(key);
+        return entityManager.createQuery(query)
+                .getResultStream()
+                .filter(tuple -> tuple.get(0) != null)
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(0, key.getJavaType()),
+                        tuple -> tuple.get(1, Long.class)));
+    }
+}
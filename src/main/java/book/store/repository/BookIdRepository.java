@@ -0,0 +1,15 @@
+package book.store.repository;
+
+import book.store.model.Book;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface BookIdRepository {
+    /**
+     * Selects only ids of the requested page, so LIMIT and OFFSET are applied by the database.
+     * Matching books are filtered in a subquery, joins made by a specification
+     * therefore don't multiply rows of the page.
+     */
+    List<Long> findIds(Specification<Book> specification, Pageable pageable);
+}
@@ -0,0 +1,50 @@
+package book.store.repository;
+
+import book.store.model.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+@RequiredArgsConstructor
+public class BookIdRepositoryImpl implements BookIdRepository {
+    private static final String ID = "id";
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Long> findIds(Specification<Book> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Book> root = query.from(Book.class);
+        query.select(root.get(ID));
+        if (specification != null) {
+            Subquery<Long> matching = query.subquery(Long.class);
+            Root<Book> book = matching.from(Book.class);
+            Predicate predicate = specification.toPredicate(book, query, criteriaBuilder);
+            if (predicate != null) {
+                matching.select(book.get(ID)).where(predicate);
+                query.where(root.get(ID).in(matching));
+            }
+        }
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor(ID) == null) {
+            sort = sort.and(Sort.by(ID));
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        TypedQuery<Long> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList();
+    }
+}
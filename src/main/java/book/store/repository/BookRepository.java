@@ -1,9 +1,17 @@
 package book.store.repository;
 
+import book.store.dto.book.BookCategoryIdDto;
 import book.store.model.Book;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,16 +22,47 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface BookRepository
         extends JpaRepository<Book, Long>,
-        JpaSpecificationExecutor<Book> {
+        JpaSpecificationExecutor<Book>,
+        BookIdRepository,
+        BookExportRepository,
+        BookFacetRepository {
     @EntityGraph(attributePaths = "categories")
-    Page<Book> findAll(Pageable pageable);
+    Optional<Book> findById(Long id);
 
     @EntityGraph(attributePaths = "categories")
-    Page<Book> findAll(Specification<Book> specification, Pageable pageable);
+    List<Book> findAllByIdIn(Collection<Long> ids);
 
-    @EntityGraph(attributePaths = "categories")
-    Optional<Book> findById(Long id);
+    @Query("SELECT book.id FROM Book book WHERE book.id > :after ORDER BY book.id")
+    Slice<Long> findIdsAfter(Long after, Pageable pageable);
 
     @Query("FROM Book book WHERE book.id = :id")
     Optional<Book> findByIdWithoutCategories(Long id);
+
+    @Query("SELECT new book.store.dto.book.BookCategoryIdDto(book.id, category.id)"
+            + " FROM Book book JOIN book.categories category")
+    List<BookCategoryIdDto> findAllCategoriesIds();
+
+    @Query(value = "SELECT isbn FROM books", nativeQuery = true)
+    Set<String> findAllIsbns();
+
+    /**
+     * Fetches a page in two queries: ids of the page first,
+     * then books of these ids with their categories.
+     */
+    default List<Book> findPage(Specification<Book> specification, Pageable pageable) {
+        return findAllInOrder(findIds(specification, pageable));
+    }
+
+    default List<Book> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Book> books = findAllByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return ids.stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 }
@@ -1,9 +1,17 @@
 package book.store.repository;
 
 import book.store.model.Category;
+import java.util.Collection;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    @Query("SELECT category.id FROM Category category")
+    Set<Long> findAllIds();
+
+    @Query("SELECT category.id FROM Category category WHERE category.id IN :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
 }
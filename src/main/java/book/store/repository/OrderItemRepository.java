@@ -1,9 +1,43 @@
 package book.store.repository;
 
+import book.store.model.Order;
 import book.store.model.OrderItem;
+import java.time.LocalDate;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+    List<OrderItem> findAllByOrderId(Long orderId);
+
+    @Modifying
+    @Query(value = "INSERT INTO order_items "
+            + "(order_id, book_id, quantity, user_id, price, is_deleted) "
+            + "SELECT :orderId, item.book_id, item.quantity, :userId, "
+            + "book.price * item.quantity, FALSE "
+            + "FROM shopping_cart_item cart_item "
+            + "JOIN cart_items item ON item.id = cart_item.item_id AND item.is_deleted = FALSE "
+            + "JOIN books book ON book.id = item.book_id "
+            + "WHERE cart_item.shopping_cart_id = :userId",
+            nativeQuery = true)
+    int insertFromShoppingCart(Long orderId, Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO orders_items (order_id, item_id) "
+            + "SELECT item.order_id, item.id "
+            + "FROM order_items item "
+            + "WHERE item.order_id = :orderId",
+            nativeQuery = true)
+    int linkToOrder(Long orderId);
+
+    @Modifying
+    @Query("UPDATE OrderItem item SET item.isDeleted = TRUE "
+            + "WHERE item.order.id IN (SELECT order.id FROM Order order "
+            + "WHERE order.status = :status AND order.orderDate < :date "
+            + "AND order.id BETWEEN :fromId AND :toId)")
+    int deleteByOrderStatusAndOrderDate(
+            Order.Status status, LocalDate date, Long fromId, Long toId);
 }
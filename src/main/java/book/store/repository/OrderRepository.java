@@ -1,12 +1,15 @@
 package book.store.repository;
 
+import book.store.dto.order.OverdueOrderDto;
 import book.store.model.Order;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -19,6 +22,9 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     List<Order> findByUserId(Long userId, Pageable pageable);
 
+    Slice<Order> findByUserIdAndIdGreaterThanOrderByIdAsc(
+            Long userId, Long after, Pageable pageable);
+
     @Query("FROM Order order "
             + "LEFT JOIN FETCH order.orderItems "
             + "WHERE order.userId = :userId AND order.id = :id")
@@ -29,7 +35,24 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             + "WHERE order.id = :id")
     Optional<Order> findByIdWithOrderItems(Long id);
 
-    @Query("FROM Order order "
-            + "WHERE order.status = :status AND order.orderDate < :now")
-    List<Order> findAllByStatusAndOrderDate(Order.Status status, LocalDate now);
+    @Query("SELECT new book.store.dto.order.OverdueOrderDto("
+            + "order.id, order.userId, order.orderDate, order.price, order.shippingAddress) "
+            + "FROM Order order "
+            + "WHERE order.status = :status AND order.orderDate < :date AND order.id > :after "
+            + "ORDER BY order.id")
+    List<OverdueOrderDto> findOverdueAfter(
+            Order.Status status, LocalDate date, Long after, Pageable pageable);
+
+    @Query("SELECT order.id FROM Order order "
+            + "WHERE order.status = :status AND order.orderDate < :date AND order.id > :after "
+            + "ORDER BY order.id")
+    List<Long> findIdsByStatusAndOrderDateBefore(
+            Order.Status status, LocalDate date, Long after, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Order order SET order.status = :newStatus, order.isDeleted = TRUE "
+            + "WHERE order.status = :status AND order.orderDate < :date "
+            + "AND order.id BETWEEN :fromId AND :toId")
+    int updateStatusAndDelete(
+            Order.Status status, LocalDate date, Long fromId, Long toId, Order.Status newStatus);
 }
@@ -0,0 +1,74 @@
+package book.store.repository;
+
+import book.store.model.OutboxNotification;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OutboxNotificationRepository extends JpaRepository<OutboxNotification, Long> {
+    @Query("SELECT notification.id FROM OutboxNotification notification "
+            + "WHERE notification.status = :status "
+            + "AND (notification.claimedUntil IS NULL OR notification.claimedUntil < :now) "
+            + "ORDER BY notification.id")
+    List<Long> findClaimableIds(
+            OutboxNotification.Status status, LocalDateTime now, Pageable pageable);
+
+    List<OutboxNotification> findAllByClaimedByAndStatusOrderByIdAsc(
+            String claimedBy, OutboxNotification.Status status);
+
+    /**
+     * Claims the rows that are still pending and not claimed by another relay,
+     * so the caller can load and send them without other instances sending them too.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxNotification notification "
+            + "SET notification.claimedBy = :claimedBy, "
+            + "notification.claimedUntil = :claimedUntil "
+            + "WHERE notification.id IN :ids AND notification.status = :status "
+            + "AND (notification.claimedUntil IS NULL OR notification.claimedUntil < :now)")
+    int claim(
+            Collection<Long> ids,
+            OutboxNotification.Status status,
+            String claimedBy,
+            LocalDateTime claimedUntil,
+            LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxNotification notification "
+            + "SET notification.status = :status "
+            + "WHERE notification.id IN :ids")
+    int updateStatus(Collection<Long> ids, OutboxNotification.Status status);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxNotification notification "
+            + "SET notification.attempts = notification.attempts + 1, "
+            + "notification.claimedBy = NULL, "
+            + "notification.claimedUntil = NULL "
+            + "WHERE notification.id IN :ids")
+    int incrementAttempts(Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxNotification notification "
+            + "SET notification.status = :status "
+            + "WHERE notification.id IN :ids AND notification.attempts >= :attempts")
+    int updateStatusIfAttemptsReached(
+            Collection<Long> ids, OutboxNotification.Status status, int attempts);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxNotification notification "
+            + "WHERE notification.status IN :statuses AND notification.createdAt < :before")
+    int deleteAllByStatusInAndCreatedAtBefore(
+            Collection<OutboxNotification.Status> statuses, LocalDateTime before);
+}
@@ -1,10 +1,15 @@
 package book.store.repository;
 
+import book.store.model.Order;
 import book.store.model.Payment;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +17,21 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByUserIdAndStatus(Long userId, Payment.Status status);
 
     List<Payment> findAllByUserId(Long userId, Pageable pageable);
+
+    Slice<Payment> findByUserIdAndIdGreaterThanOrderByIdAsc(
+            Long userId, Long after, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Payment payment SET payment.status = :newStatus "
+            + "WHERE payment.status = :status AND payment.orderId IN ("
+            + "SELECT order.id FROM Order order "
+            + "WHERE order.status = :orderStatus AND order.orderDate < :date "
+            + "AND order.id BETWEEN :fromId AND :toId)")
+    int updateStatusByOrderStatusAndOrderDate(
+            Payment.Status status,
+            Order.Status orderStatus,
+            LocalDate date,
+            Long fromId,
+            Long toId,
+            Payment.Status newStatus);
 }
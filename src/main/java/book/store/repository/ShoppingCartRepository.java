@@ -1,8 +1,10 @@
 package book.store.repository;
 
 import book.store.model.ShoppingCart;
+import java.math.BigDecimal;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -18,4 +20,17 @@ public interface ShoppingCartRepository extends JpaRepository<ShoppingCart, Long
             + "LEFT JOIN FETCH item.book "
             + "WHERE cart.userId = :userId")
     Optional<ShoppingCart> findByIdWithCartItemsAndBooks(Long userId);
+
+    @Query(value = "SELECT SUM(book.price * item.quantity) "
+            + "FROM shopping_cart_item cart_item "
+            + "JOIN cart_items item ON item.id = cart_item.item_id AND item.is_deleted = FALSE "
+            + "JOIN books book ON book.id = item.book_id "
+            + "WHERE cart_item.shopping_cart_id = :userId",
+            nativeQuery = true)
+    Optional<BigDecimal> getTotalPrice(Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM shopping_cart_item WHERE shopping_cart_id = :userId",
+            nativeQuery = true)
+    int clearCartItems(Long userId);
 }
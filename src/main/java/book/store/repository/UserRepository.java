@@ -21,6 +21,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @EntityGraph(attributePaths = "roles")
     Optional<User> findById(Long id);
 
+    @Query("SELECT user.tokenVersion FROM User user WHERE user.id = :id")
+    Optional<Integer> findTokenVersionById(Long id);
+
     @EntityGraph(attributePaths = "roles")
     Page<User> findAll(Pageable pageable);
 
@@ -11,6 +11,12 @@ public class PriceSpecificationProvider {
     private static final String PRICE_FIELD = "price";
 
     public Specification<Book> getSpecification(List<BigDecimal> params) {
+        PriceRange range = getRange(params);
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.between(root.get(PRICE_FIELD), range.from(), range.to());
+    }
+
+    public PriceRange getRange(List<BigDecimal> params) {
         BigDecimal priceFrom;
         BigDecimal priceTo;
         if (params.size() == 1) {
@@ -28,11 +34,16 @@ public class PriceSpecificationProvider {
             throw new IllegalArgumentException("Price from should be bigger than price to, "
                     + "but was " + params);
         }
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.between(root.get(PRICE_FIELD), priceFrom, priceTo);
+        return new PriceRange(priceFrom, priceTo);
     }
 
     public String getKey() {
         return PRICE_FIELD;
     }
+
+    public record PriceRange(BigDecimal from, BigDecimal to) {
+        public boolean contains(BigDecimal price) {
+            return price.compareTo(from) >= 0 && price.compareTo(to) <= 0;
+        }
+    }
 }
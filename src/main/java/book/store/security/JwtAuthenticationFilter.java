@@ -1,11 +1,18 @@
 package book.store.security;
 
+import book.store.model.Role;
+import book.store.model.User;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,6 +30,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER = "Bearer";
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final JwtClaimsRevocationService revocationService;
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(
@@ -32,10 +42,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException,
             IOException {
         String token = getToken(request);
-        if (token != null && jwtUtil.isValid(token)) {
-            String username = jwtUtil.getUsername(token);
-            UserDetails userDetails =
-                    userDetailsService.loadUserByUsername(username);
+        if (token != null) {
+            UserDetails userDetails = getUserDetails(jwtUtil.getValidClaims(token));
             Authentication authentication =
                     new UsernamePasswordAuthenticationToken(
                             userDetails,
@@ -53,4 +61,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
+
+    private UserDetails getUserDetails(Claims claims) {
+        Long id = claims.get(JwtUtil.ID_CLAIM, Long.class);
+        List<?> roles = claims.get(JwtUtil.ROLES_CLAIM, List.class);
+        Integer version = claims.get(JwtUtil.VERSION_CLAIM, Integer.class);
+        if (!stateless
+                || id == null
+                || roles == null
+                || revocationService.isRevoked(id, version)) {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        User user = new User(id);
+        user.setEmail(claims.getSubject());
+        user.setRoles(toRoles(roles));
+        return user;
+    }
+
+    private Set<Role> toRoles(List<?> roleNames) {
+        return roleNames.stream()
+                .map(roleName -> {
+                    Role role = new Role();
+                    role.setName(Role.RoleName.valueOf(roleName.toString()));
+                    return role;
+                })
+                .collect(Collectors.toSet());
+    }
 }
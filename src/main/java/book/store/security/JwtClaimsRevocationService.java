@@ -0,0 +1,61 @@
+package book.store.security;
+
+import book.store.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tells whether the id and roles put into a user's token are outdated.
+ * The source of truth is the users.token_version column, which is put into the token claims
+ * and incremented whenever the roles, the email or the password change.
+ * Versions are cached for a short time, so a change made on another node is seen
+ * once the entry expires, and a deleted user has no version at all.
+ */
+@Component
+public class JwtClaimsRevocationService {
+    private final UserRepository userRepository;
+    private final Cache<Long, Integer> tokenVersions;
+
+    public JwtClaimsRevocationService(
+            UserRepository userRepository,
+            @Value("${jwt.token-version.cache-ttl-ms:5000}") Long cacheTtl,
+            @Value("${jwt.token-version.cache-size:10000}") Long cacheSize) {
+        this.userRepository = userRepository;
+        tokenVersions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(cacheTtl))
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * Drops the cached version of the user after the current transaction commits,
+     * so the next request on this node reads the new one.
+     */
+    public void revoke(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            tokenVersions.invalidate(userId);
+                        }
+                    });
+        } else {
+            tokenVersions.invalidate(userId);
+        }
+    }
+
+    public boolean isRevoked(Long userId, Integer tokenVersion) {
+        if (tokenVersion == null) {
+            return true;
+        }
+        Integer currentVersion = tokenVersions.get(userId,
+                id -> userRepository.findTokenVersionById(id).orElse(null));
+        return !tokenVersion.equals(currentVersion);
+    }
+}
@@ -1,26 +1,49 @@
 package book.store.security;
 
+import book.store.model.Role;
+import book.store.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cglib.core.internal.Function;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
+    public static final String ID_CLAIM = "id";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String VERSION_CLAIM = "ver";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
     private final Key secret;
     private final Long expiration;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
 
     public JwtUtil(@Value("${jwt.secret}") String secretString,
-                   @Value("${jwt.expiration}") Long expiration) {
+                   @Value("${jwt.expiration}") Long expiration,
+                   @Value("${jwt.verified-tokens.cache-size:10000}") Long cacheSize) {
         secret = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
         this.expiration = expiration;
+        parser = Jwts.parserBuilder()
+                .setSigningKey(secret)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     public String generateToken(String email) {
@@ -32,28 +55,78 @@ public class JwtUtil {
                 .compact();
     }
 
-    public boolean isValid(String token) {
+    public String generateToken(User user) {
+        List<String> roles = user.getRoles()
+                .stream()
+                .map(Role::getAuthority)
+                .toList();
+        return Jwts.builder()
+                .setSubject(user.getEmail())
+                .claim(ID_CLAIM, user.getId())
+                .claim(ROLES_CLAIM, roles)
+                .claim(VERSION_CLAIM, user.getTokenVersion())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                .signWith(secret)
+                .compact();
+    }
+
+    /**
+     * Verifies the token and returns its claims.
+     * Tokens verified earlier are looked up by their digest until they expire,
+     * so the signature of a token is checked once instead of on every request.
+     */
+    public Claims getValidClaims(String token) {
         try {
-            Jws<Claims> claimsJws = Jwts.parserBuilder()
-                    .setSigningKey(secret)
-                    .build()
-                    .parseClaimsJws(token);
-            return !claimsJws.getBody().getExpiration().before(new Date());
+            Claims claims = verifiedTokens.get(digest(token), digest -> parse(token));
+            if (claims.getExpiration().before(new Date())) {
+                throw new JwtException("Expired JWT token");
+            }
+            return claims;
         } catch (JwtException | IllegalArgumentException e) {
             throw new JwtException("User is not authenticated. Invalid or expired JWT token");
         }
     }
 
+    public boolean isValid(String token) {
+        return getValidClaims(token) != null;
+    }
+
     public String getUsername(String token) {
-        return getClaimsFromToken(token, Claims::getSubject);
+        return getValidClaims(token).getSubject();
     }
 
-    private <T> T getClaimsFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secret)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claimsResolver.apply(claims);
+    private Claims parse(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance(DIGEST_ALGORITHM)
+                            .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Can't get " + DIGEST_ALGORITHM + " digest", e);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+            long millisLeft = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millisLeft));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(
+                String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -1,10 +1,14 @@
 package book.store.service.book;
 
 import book.store.dto.book.BookCreateRequestDto;
+import book.store.dto.book.BookFacet;
+import book.store.dto.book.BookFacetedSearchResultDto;
 import book.store.dto.book.BookResponseDto;
 import book.store.dto.book.BookSearchParametersDto;
 import book.store.dto.book.BookUpdateDto;
+import book.store.dto.cursor.CursorPageDto;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.domain.Pageable;
 
 public interface BookService {
@@ -12,6 +16,8 @@ public interface BookService {
 
     List<BookResponseDto> getAll(Pageable pageable);
 
+    CursorPageDto<BookResponseDto> getAllAfter(Long after, int size);
+
     BookResponseDto getBookById(Long id);
 
     void deleteById(Long id);
@@ -19,4 +25,9 @@ public interface BookService {
     BookResponseDto updateById(Long id, BookUpdateDto updateDto);
 
     List<BookResponseDto> search(BookSearchParametersDto parametersDto, Pageable pageable);
+
+    BookFacetedSearchResultDto searchFaceted(
+            BookSearchParametersDto parametersDto,
+            Set<BookFacet> facets,
+            Pageable pageable);
 }
@@ -1,59 +1,93 @@
 package book.store.service.book;
 
+import static book.store.config.CacheConfig.BOOKS_CACHE;
+
 import book.store.dto.book.BookCreateRequestDto;
+import book.store.dto.book.BookFacet;
+import book.store.dto.book.BookFacetedSearchResultDto;
 import book.store.dto.book.BookResponseDto;
 import book.store.dto.book.BookSearchParametersDto;
 import book.store.dto.book.BookUpdateDto;
+import book.store.dto.book.PriceBucketDto;
+import book.store.dto.cursor.CursorPageDto;
 import book.store.mapper.BookMapper;
 import book.store.model.Book;
 import book.store.repository.BookRepository;
 import book.store.repository.CategoryRepository;
-import book.store.repository.specification.book.BookSpecificationBuilder;
+import book.store.service.book.search.BookSearchEngine;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
+import book.store.telegram.strategy.response.AdminResponseCache;
 import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
 public class BookServiceImpl implements BookService {
-    private static final String TELEGRAM = "Telegram";
-    private static final String BOOK_CREATION = "Book creation";
-    private static final String BOOK_UPDATING = "Book updating";
-    private static final String BOOK_DELETING = "Book deleting";
+    private static final Set<String> SORT_PROPERTIES = Set.of(
+            "id", "title", "author", "isbn", "price", "description", "coverImage");
     private final BookRepository bookRepository;
     private final BookMapper bookMapper;
     private final CategoryRepository categoryRepository;
-    private final BookSpecificationBuilder bookSpecificationBuilder;
+    private final BookSearchEngine bookSearchEngine;
     private final AdminNotificationStrategy<Book> notificationStrategy;
+    private final AdminResponseCache responseCache;
+    @Value("${book.search.price-buckets:10,25,50,100}")
+    private List<BigDecimal> priceBounds;
 
     @Override
+    @Transactional
     public BookResponseDto create(BookCreateRequestDto requestDto) {
-        requestDto.categoriesIds()
-                .forEach(categoryId ->
-                        categoryRepository
-                                .findById(categoryId)
-                                .orElseThrow(() -> new EntityNotFoundException(
-                                        "Can't find a category by id " + categoryId)));
+        checkCategoriesExist(requestDto.categoriesIds());
         Book book = bookMapper.toModel(requestDto);
         bookRepository.save(book);
-        sendMessage(TELEGRAM, BOOK_CREATION, null, book);
+        bookSearchEngine.index(book);
+        sendMessage(NotificationChannel.TELEGRAM, NotificationEventType.BOOK_CREATION, null, book);
         return bookMapper.toResponseDto(book);
     }
 
     @Override
     public List<BookResponseDto> getAll(Pageable pageable) {
-        return bookRepository.findAll(pageable)
+        checkSortable(pageable.getSort());
+        return bookRepository.findPage(null, pageable)
                 .stream()
                 .map(bookMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    public CursorPageDto<BookResponseDto> getAllAfter(Long after, int size) {
+        Slice<Long> ids = bookRepository.findIdsAfter(after, PageRequest.of(0, size));
+        List<BookResponseDto> books = bookRepository.findAllByIdIn(ids.getContent())
+                .stream()
+                .sorted(Comparator.comparing(Book::getId))
+                .map(bookMapper::toResponseDto)
+                .toList();
+        return new CursorPageDto<>(
+                books,
+                ids.isEmpty() ? null : ids.getContent().get(ids.getNumberOfElements() - 1),
+                ids.hasNext());
+    }
+
+    @Override
+    @Cacheable(cacheNames = BOOKS_CACHE, key = "#id")
     public BookResponseDto getBookById(Long id) {
         return bookRepository.findById(id)
                 .map(bookMapper::toResponseDto)
@@ -62,49 +96,108 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
+    @CacheEvict(cacheNames = BOOKS_CACHE, key = "#id")
+    @Transactional
     public void deleteById(Long id) {
         if (bookRepository.findByIdWithoutCategories(id).isEmpty()) {
             return;
         }
         bookRepository.deleteById(id);
-        sendMessage(TELEGRAM, BOOK_DELETING, null, new Book(id));
+        bookSearchEngine.remove(id);
+        responseCache.invalidate(AdminResponseCache.EntityType.BOOK, id);
+        sendMessage(NotificationChannel.TELEGRAM, NotificationEventType.BOOK_DELETING,
+                null, new Book(id));
     }
 
     @Override
+    @CacheEvict(cacheNames = BOOKS_CACHE, key = "#id")
+    @Transactional
     public BookResponseDto updateById(Long id, BookUpdateDto updateDto) {
         if (updateDto.categoriesIds() != null && !updateDto.categoriesIds().isEmpty()) {
-            updateDto.categoriesIds()
-                    .forEach(categoryId -> categoryRepository.findById(categoryId)
-                            .orElseThrow(() -> new EntityNotFoundException(
-                                    "Can't find a category by id " + categoryId)));
+            checkCategoriesExist(updateDto.categoriesIds());
         }
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Can't find a book by id " + id));
         book = bookMapper.toModel(book, updateDto);
         bookRepository.save(book);
-        sendMessage(TELEGRAM, BOOK_UPDATING, null, book);
+        bookSearchEngine.index(book);
+        responseCache.invalidate(AdminResponseCache.EntityType.BOOK, id);
+        sendMessage(NotificationChannel.TELEGRAM, NotificationEventType.BOOK_UPDATING, null, book);
         return bookMapper.toResponseDto(book);
     }
 
     @Override
     public List<BookResponseDto> search(BookSearchParametersDto parametersDto, Pageable pageable) {
-        Specification<Book> specification =
-                bookSpecificationBuilder.build(parametersDto);
-        return bookRepository.findAll(specification, pageable)
+        checkSortable(pageable.getSort());
+        return bookSearchEngine.search(parametersDto, pageable)
                 .stream()
                 .map(bookMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public BookFacetedSearchResultDto searchFaceted(
+            BookSearchParametersDto parametersDto,
+            Set<BookFacet> facets,
+            Pageable pageable) {
+        return new BookFacetedSearchResultDto(
+                search(parametersDto, pageable),
+                facets.contains(BookFacet.CATEGORIES)
+                        ? bookSearchEngine.countByCategory(parametersDto)
+                        : null,
+                facets.contains(BookFacet.PRICE)
+                        ? toPriceBuckets(bookSearchEngine.countByPrice(parametersDto))
+                        : null);
+    }
+
+    private List<PriceBucketDto> toPriceBuckets(Map<BigDecimal, Long> countsByPrice) {
+        long[] counts = new long[priceBounds.size() + 1];
+        countsByPrice.forEach((price, count) -> {
+            int bucket = 0;
+            while (bucket < priceBounds.size() && price.compareTo(priceBounds.get(bucket)) >= 0) {
+                bucket++;
+            }
+            counts[bucket] += count;
+        });
+        List<PriceBucketDto> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            buckets.add(new PriceBucketDto(
+                    i == 0 ? BigDecimal.ZERO : priceBounds.get(i - 1),
+                    i == priceBounds.size() ? null : priceBounds.get(i),
+                    counts[i]));
+        }
+        return buckets;
+    }
+
+    private void checkSortable(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Can't sort books by " + order.getProperty());
+            }
+        }
+    }
+
+    private void checkCategoriesExist(Set<Long> categoriesIds) {
+        Set<Long> existingIds = categoryRepository.findExistingIds(categoriesIds);
+        List<Long> missingIds = categoriesIds
+                .stream()
+                .filter(categoryId -> !existingIds.contains(categoryId))
+                .sorted()
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException("Can't find categories by ids " + missingIds);
+        }
+    }
+
     private void sendMessage(
-            String notificationService,
-            String messageType,
+            NotificationChannel channel,
+            NotificationEventType eventType,
             Long chatId,
             Book book) {
         notificationStrategy
                 .getNotificationService(
-                        notificationService, messageType
+                        channel, eventType
                 )
                 .sendMessage(
                         chatId, book);
@@ -0,0 +1,159 @@
+package book.store.service.book.bulk;
+
+import book.store.dto.book.BookCreateRequestDto;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Parses CSV rows of books.
+ * Columns are taken from the header: title, author, isbn, price, description, coverImage
+ * and categoriesIds, where ids are separated by ';', other columns are ignored.
+ * Values may be quoted with '"', a quoted value may span several lines.
+ * A row whose quote isn't closed within MAX_ROW_LENGTH characters ends there and is rejected,
+ * reading goes on from the next line.
+ */
+public class BookCsvParser implements BookRowReader {
+    static final int MAX_ROW_LENGTH = 64 * 1024;
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String CATEGORIES_SEPARATOR = ";";
+    private static final String TITLE = "title";
+    private static final String AUTHOR = "author";
+    private static final String ISBN = "isbn";
+    private static final String PRICE = "price";
+    private static final String DESCRIPTION = "description";
+    private static final String COVER_IMAGE = "coverImage";
+    private static final String CATEGORIES_IDS = "categoriesIds";
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final BufferedReader reader;
+    private long line;
+    private long rowLine;
+
+    public BookCsvParser(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        String header = readRow();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV body should start with a header");
+        }
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        List.of(TITLE, AUTHOR, ISBN, PRICE, CATEGORIES_IDS).forEach(column -> {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header should contain " + column);
+            }
+        });
+    }
+
+    @Override
+    public String readRow() throws IOException {
+        String first = reader.readLine();
+        if (first == null) {
+            return null;
+        }
+        line++;
+        rowLine = line;
+        StringBuilder row = new StringBuilder(first);
+        boolean quoted = isQuoteOpen(first, false);
+        while (quoted && row.length() < MAX_ROW_LENGTH) {
+            String next = reader.readLine();
+            if (next == null) {
+                break;
+            }
+            line++;
+            row.append('\n').append(next);
+            quoted = isQuoteOpen(next, true);
+        }
+        return row.toString();
+    }
+
+    @Override
+    public long getLine() {
+        return rowLine;
+    }
+
+    @Override
+    public BookCreateRequestDto parse(String row) {
+        List<String> values = split(row);
+        String price = get(values, PRICE);
+        String categoriesIds = get(values, CATEGORIES_IDS);
+        return new BookCreateRequestDto(
+                get(values, TITLE),
+                get(values, AUTHOR),
+                get(values, ISBN),
+                price == null ? null : new BigDecimal(price),
+                get(values, DESCRIPTION),
+                get(values, COVER_IMAGE),
+                categoriesIds == null ? null : toIds(categoriesIds));
+    }
+
+    private String get(List<String> values, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size() || values.get(index).isBlank()) {
+            return null;
+        }
+        return values.get(index).trim();
+    }
+
+    private Set<Long> toIds(String categoriesIds) {
+        return Arrays.stream(categoriesIds.split(CATEGORIES_SEPARATOR))
+                .map(String::trim)
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Tells whether a quoted value is still open at the end of the line,
+     * an escaped quote counts twice and therefore doesn't change it.
+     */
+    private boolean isQuoteOpen(String line, boolean quoted) {
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == QUOTE) {
+                quoted = !quoted;
+            }
+        }
+        return quoted;
+    }
+
+    private List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            char symbol = line.charAt(i);
+            if (quoted && symbol == QUOTE) {
+                if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    value.append(QUOTE);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (quoted) {
+                value.append(symbol);
+            } else if (symbol == QUOTE) {
+                quoted = true;
+            } else if (symbol == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(symbol);
+            }
+            i++;
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Quoted value isn't closed");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,59 @@
+package book.store.service.book.bulk;
+
+import book.store.dto.book.BookCreateRequestDto;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Writes books as CSV rows with the columns read by {@link BookCsvParser},
+ * so an exported catalog can be imported back.
+ */
+public class BookCsvWriter {
+    private static final String HEADER =
+            "title,author,isbn,price,description,coverImage,categoriesIds";
+    private static final char SEPARATOR = ',';
+    private static final String QUOTE = "\"";
+    private static final String CATEGORIES_SEPARATOR = ";";
+    private final Writer writer;
+
+    public BookCsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    public void write(BookCreateRequestDto book) throws IOException {
+        writeValue(book.title(), false);
+        writeValue(book.author(), true);
+        writeValue(book.isbn(), true);
+        writeValue(book.price() == null ? null : book.price().toPlainString(), true);
+        writeValue(book.description(), true);
+        writeValue(book.coverImage(), true);
+        writeValue(book.categoriesIds()
+                .stream()
+                .sorted()
+                .map(Objects::toString)
+                .collect(Collectors.joining(CATEGORIES_SEPARATOR)), true);
+        writer.write('\n');
+    }
+
+    private void writeValue(String value, boolean separated) throws IOException {
+        if (separated) {
+            writer.write(SEPARATOR);
+        }
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(SEPARATOR) >= 0 || value.contains(QUOTE)
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            writer.write(QUOTE + value.replace(QUOTE, QUOTE + QUOTE) + QUOTE);
+        } else {
+            writer.write(value);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package book.store.service.book.bulk;
+
+import java.io.OutputStream;
+import java.util.List;
+import org.springframework.http.MediaType;
+
+public interface BookExportService {
+    MediaType getContentType(List<MediaType> acceptedTypes);
+
+    void exportBooks(OutputStream output, MediaType contentType);
+}
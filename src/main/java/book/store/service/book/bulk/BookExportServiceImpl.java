@@ -0,0 +1,115 @@
+package book.store.service.book.bulk;
+
+import static book.store.service.book.bulk.BookImportService.APPLICATION_NDJSON;
+import static book.store.service.book.bulk.BookImportService.TEXT_CSV;
+
+import book.store.dto.book.BookCreateRequestDto;
+import book.store.dto.book.BookExportRowDto;
+import book.store.repository.BookRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollableResults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Streams the catalog from a forward-only cursor straight into the response.
+ * Only the book being written is held in memory, whatever the size of the catalog.
+ * Books are written in the shape the import reads, so an export can be imported back.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookExportServiceImpl implements BookExportService {
+    private final BookRepository bookRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    @Value("${book.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Override
+    public MediaType getContentType(List<MediaType> acceptedTypes) {
+        MediaType csv = MediaType.valueOf(TEXT_CSV);
+        return acceptedTypes.stream().anyMatch(type -> type.isPresentIn(List.of(csv)))
+                ? csv
+                : MediaType.valueOf(APPLICATION_NDJSON);
+    }
+
+    @Override
+    public void exportBooks(OutputStream output, MediaType contentType) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (ScrollableResults<BookExportRowDto> rows =
+                         bookRepository.scrollAllWithCategoriesIds(fetchSize)) {
+                Writer writer = new BufferedWriter(
+                        new OutputStreamWriter(output, StandardCharsets.UTF_8));
+                export(rows, getBookWriter(writer, contentType));
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Can't export books", e);
+            }
+        });
+    }
+
+    private BookWriter getBookWriter(Writer writer, MediaType contentType) throws IOException {
+        if (MediaType.valueOf(TEXT_CSV).includes(contentType)) {
+            BookCsvWriter csvWriter = new BookCsvWriter(writer);
+            csvWriter.writeHeader();
+            return csvWriter::write;
+        }
+        return book -> {
+            writer.write(objectMapper.writeValueAsString(book));
+            writer.write('\n');
+        };
+    }
+
+    private void export(ScrollableResults<BookExportRowDto> rows, BookWriter bookWriter)
+            throws IOException {
+        Long bookId = null;
+        BookCreateRequestDto book = null;
+        while (rows.next()) {
+            BookExportRowDto row = rows.get();
+            if (book == null || !bookId.equals(row.id())) {
+                if (book != null) {
+                    bookWriter.write(book);
+                }
+                bookId = row.id();
+                book = toRequestDto(row);
+            }
+            if (row.categoryId() != null) {
+                book.categoriesIds().add(row.categoryId());
+            }
+        }
+        if (book != null) {
+            bookWriter.write(book);
+        }
+    }
+
+    private BookCreateRequestDto toRequestDto(BookExportRowDto row) {
+        return new BookCreateRequestDto(
+                row.title(),
+                row.author(),
+                row.isbn(),
+                row.price(),
+                row.description(),
+                row.coverImage(),
+                new TreeSet<>());
+    }
+
+    @FunctionalInterface
+    private interface BookWriter {
+        void write(BookCreateRequestDto book) throws IOException;
+    }
+}
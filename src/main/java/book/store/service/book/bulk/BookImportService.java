@@ -0,0 +1,13 @@
+package book.store.service.book.bulk;
+
+import book.store.dto.book.BookImportResultDto;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.MediaType;
+
+public interface BookImportService {
+    String TEXT_CSV = "text/csv";
+    String APPLICATION_NDJSON = "application/x-ndjson";
+
+    BookImportResultDto importBooks(InputStream body, MediaType contentType) throws IOException;
+}
@@ -0,0 +1,233 @@
+package book.store.service.book.bulk;
+
+import book.store.dto.book.BookCreateRequestDto;
+import book.store.dto.book.BookImportErrorDto;
+import book.store.dto.book.BookImportResultDto;
+import book.store.mapper.BookMapper;
+import book.store.model.Book;
+import book.store.repository.BookRepository;
+import book.store.repository.CategoryRepository;
+import book.store.service.book.search.BookSearchEngine;
+import book.store.telegram.notification.NotificationChannel;
+import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Imports books from a CSV or NDJSON body line by line, so the body is never held in memory.
+ * Rows are validated against category ids and ISBNs loaded once,
+ * then inserted in chunks, each chunk in its own transaction with JDBC batches.
+ * If a chunk fails, its rows are retried one by one to find the rejected ones.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookImportServiceImpl implements BookImportService {
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private final BookMapper bookMapper;
+    private final BookSearchEngine bookSearchEngine;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final AdminNotificationStrategy<BookImportResultDto> notificationStrategy;
+    @Value("${book.import.chunk-size:1000}")
+    private int chunkSize;
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    public BookImportResultDto importBooks(InputStream body, MediaType contentType)
+            throws IOException {
+        Set<Long> categoriesIds = categoryRepository.findAllIds();
+        Set<String> isbns = new HashSet<>(bookRepository.findAllIsbns());
+        Report report = new Report();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            BookRowReader rowReader = getRowReader(reader, contentType);
+            String row;
+            while ((row = rowReader.readRow()) != null) {
+                long lineNumber = rowReader.getLine();
+                if (row.isBlank()) {
+                    continue;
+                }
+                try {
+                    BookCreateRequestDto requestDto = rowReader.parse(row);
+                    validate(requestDto, categoriesIds, isbns);
+                    isbns.add(requestDto.isbn());
+                    chunk.add(new Row(lineNumber, requestDto));
+                } catch (JsonProcessingException | IllegalArgumentException e) {
+                    report.fail(lineNumber, e.getMessage());
+                }
+                if (chunk.size() == chunkSize) {
+                    save(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        save(chunk, report);
+        BookImportResultDto result = new BookImportResultDto(
+                report.imported, report.failed, report.errors);
+        log.info("Imported {} books, rejected {} rows", report.imported, report.failed);
+        notificationStrategy
+                .getNotificationService(NotificationChannel.TELEGRAM,
+                        NotificationEventType.BOOK_IMPORT)
+                .sendMessage(null, result);
+        return result;
+    }
+
+    private BookRowReader getRowReader(BufferedReader reader, MediaType contentType)
+            throws IOException {
+        if (MediaType.valueOf(TEXT_CSV).includes(contentType)) {
+            return new BookCsvParser(reader);
+        }
+        if (MediaType.valueOf(APPLICATION_NDJSON).includes(contentType)) {
+            return new NdjsonRowReader(reader, objectMapper);
+        }
+        throw new IllegalArgumentException("Can't import books from " + contentType
+                + ". Supported types are " + TEXT_CSV + " and " + APPLICATION_NDJSON);
+    }
+
+    private void validate(
+            BookCreateRequestDto requestDto,
+            Set<Long> categoriesIds,
+            Set<String> isbns) {
+        Set<ConstraintViolation<BookCreateRequestDto>> violations =
+                validator.validate(requestDto);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations
+                    .stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        Set<Long> missingIds = requestDto.categoriesIds()
+                .stream()
+                .filter(id -> !categoriesIds.contains(id))
+                .collect(Collectors.toSet());
+        if (!missingIds.isEmpty()) {
+            throw new IllegalArgumentException("Can't find categories by ids " + missingIds);
+        }
+        if (requestDto.isbn() != null && isbns.contains(requestDto.isbn())) {
+            throw new IllegalArgumentException(
+                    "A book with ISBN " + requestDto.isbn() + " already exists");
+        }
+    }
+
+    private void save(List<Row> chunk, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            index(transactionTemplate.execute(status -> persist(chunk)), report);
+        } catch (RuntimeException e) {
+            log.warn("Can't import a chunk of {} books, importing them one by one",
+                    chunk.size(), e);
+            for (Row row : chunk) {
+                try {
+                    index(transactionTemplate.execute(status -> persist(List.of(row))), report);
+                } catch (RuntimeException rowException) {
+                    report.fail(row.line(), getRootMessage(rowException));
+                }
+            }
+        }
+    }
+
+    private List<Book> persist(List<Row> rows) {
+        List<Book> books = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            Book book = bookMapper.toModel(row.requestDto());
+            entityManager.persist(book);
+            books.add(book);
+            if (books.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return books;
+    }
+
+    private void index(List<Book> books, Report report) {
+        books.forEach(bookSearchEngine::index);
+        report.imported += books.size();
+    }
+
+    private String getRootMessage(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private static class NdjsonRowReader implements BookRowReader {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private long line;
+
+        private NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public String readRow() throws IOException {
+            String row = reader.readLine();
+            if (row != null) {
+                line++;
+            }
+            return row;
+        }
+
+        @Override
+        public long getLine() {
+            return line;
+        }
+
+        @Override
+        public BookCreateRequestDto parse(String row) throws JsonProcessingException {
+            return objectMapper.readValue(row, BookCreateRequestDto.class);
+        }
+    }
+
+    private record Row(long line, BookCreateRequestDto requestDto) {
+    }
+
+    private static class Report {
+        private final List<BookImportErrorDto> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BookImportErrorDto(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package book.store.service.book.bulk;
+
+import book.store.dto.book.BookCreateRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.IOException;
+
+/**
+ * Reads rows of an import body one at a time.
+ */
+interface BookRowReader {
+    /**
+     * Returns the next row, or null at the end of the body.
+     */
+    String readRow() throws IOException;
+
+    /**
+     * Returns the number of the line the last read row starts at.
+     */
+    long getLine();
+
+    BookCreateRequestDto parse(String row) throws JsonProcessingException;
+}
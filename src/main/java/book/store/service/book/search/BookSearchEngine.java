@@ -0,0 +1,28 @@
+package book.store.service.book.search;
+
+import book.store.dto.book.BookSearchParametersDto;
+import book.store.model.Book;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Pageable;
+
+public interface BookSearchEngine {
+    List<Book> search(BookSearchParametersDto parametersDto, Pageable pageable);
+
+    /**
+     * Counts all books matching the params by category ids.
+     */
+    Map<Long, Long> countByCategory(BookSearchParametersDto parametersDto);
+
+    /**
+     * Counts all books matching the params by distinct prices.
+     */
+    Map<BigDecimal, Long> countByPrice(BookSearchParametersDto parametersDto);
+
+    void index(Book book);
+
+    void remove(Long id);
+
+    void removeCategory(Long categoryId);
+}
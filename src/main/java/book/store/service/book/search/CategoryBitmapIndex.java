@@ -0,0 +1,87 @@
+package book.store.service.book.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+/**
+ * Maps category ids to compressed bitmaps of ids of their books.
+ * Books of several categories are found by a union of bitmaps instead of a join.
+ */
+public class CategoryBitmapIndex {
+    private final Map<Long, Roaring64NavigableMap> bitmaps = new HashMap<>();
+
+    public synchronized void add(Long categoryId, Long bookId) {
+        bitmaps.computeIfAbsent(categoryId, key -> new Roaring64NavigableMap()).addLong(bookId);
+    }
+
+    public synchronized void set(Long bookId, Collection<Long> categoriesIds) {
+        remove(bookId);
+        categoriesIds.forEach(categoryId -> add(categoryId, bookId));
+    }
+
+    public synchronized void remove(Long bookId) {
+        bitmaps.values().removeIf(bitmap -> {
+            bitmap.removeLong(bookId);
+            return bitmap.isEmpty();
+        });
+    }
+
+    public synchronized void removeCategory(Long categoryId) {
+        bitmaps.remove(categoryId);
+    }
+
+    public synchronized void clear() {
+        bitmaps.clear();
+    }
+
+    /**
+     * Returns ids of books of any of the categories in ascending order.
+     */
+    public synchronized Set<Long> find(Collection<Long> categoriesIds) {
+        Roaring64NavigableMap union = union(categoriesIds);
+        Set<Long> ids = new LinkedHashSet<>();
+        union.forEach(ids::add);
+        return ids;
+    }
+
+    /**
+     * Keeps only ids of books of any of the categories.
+     */
+    public synchronized void retain(Set<Long> ids, Collection<Long> categoriesIds) {
+        Roaring64NavigableMap union = union(categoriesIds);
+        ids.removeIf(id -> !union.contains(id));
+    }
+
+    /**
+     * Counts the given books by category ids, categories with none of them are left out.
+     */
+    public synchronized Map<Long, Long> count(Collection<Long> ids) {
+        Roaring64NavigableMap matching = new Roaring64NavigableMap();
+        ids.forEach(matching::addLong);
+        Map<Long, Long> counts = new HashMap<>();
+        bitmaps.forEach((categoryId, bitmap) -> {
+            Roaring64NavigableMap intersection = new Roaring64NavigableMap();
+            intersection.or(bitmap);
+            intersection.and(matching);
+            if (!intersection.isEmpty()) {
+                counts.put(categoryId, intersection.getLongCardinality());
+            }
+        });
+        return counts;
+    }
+
+    private Roaring64NavigableMap union(Collection<Long> categoriesIds) {
+        Roaring64NavigableMap union = new Roaring64NavigableMap();
+        for (Long categoryId : categoriesIds) {
+            Roaring64NavigableMap bitmap = bitmaps.get(categoryId);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+}
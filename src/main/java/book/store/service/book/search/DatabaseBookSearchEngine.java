@@ -0,0 +1,52 @@
+package book.store.service.book.search;
+
+import book.store.dto.book.BookSearchParametersDto;
+import book.store.model.Book;
+import book.store.repository.BookRepository;
+import book.store.repository.specification.book.BookSpecificationBuilder;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves every search param with a LIKE query to the database.
+ * Used when book.search.engine is not set (e.g. in tests, where books are inserted by sql scripts).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "book.search.engine", havingValue = "database", matchIfMissing = true)
+public class DatabaseBookSearchEngine implements BookSearchEngine {
+    private final BookRepository bookRepository;
+    private final BookSpecificationBuilder bookSpecificationBuilder;
+
+    @Override
+    public List<Book> search(BookSearchParametersDto parametersDto, Pageable pageable) {
+        return bookRepository.findPage(bookSpecificationBuilder.build(parametersDto), pageable);
+    }
+
+    @Override
+    public Map<Long, Long> countByCategory(BookSearchParametersDto parametersDto) {
+        return bookRepository.countByCategory(bookSpecificationBuilder.build(parametersDto));
+    }
+
+    @Override
+    public Map<BigDecimal, Long> countByPrice(BookSearchParametersDto parametersDto) {
+        return bookRepository.countByPrice(bookSpecificationBuilder.build(parametersDto));
+    }
+
+    @Override
+    public void index(Book book) {
+    }
+
+    @Override
+    public void remove(Long id) {
+    }
+
+    @Override
+    public void removeCategory(Long categoryId) {
+    }
+}
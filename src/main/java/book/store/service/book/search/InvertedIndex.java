@@ -0,0 +1,86 @@
+package book.store.service.book.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * Maps lower-cased tokens of a text field to posting lists of book ids.
+ * A query token matches every indexed token it is a prefix of.
+ */
+public class InvertedIndex {
+    private static final String TOKEN_SEPARATOR = "[^\\p{L}\\p{N}]+";
+    private final NavigableMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Set<String>> documents = new ConcurrentHashMap<>();
+
+    public synchronized void add(Long id, String text) {
+        remove(id);
+        Set<String> tokens = tokenize(text);
+        if (tokens.isEmpty()) {
+            return;
+        }
+        tokens.forEach(token -> postings
+                .computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet())
+                .add(id));
+        documents.put(id, tokens);
+    }
+
+    public synchronized void remove(Long id) {
+        Set<String> tokens = documents.remove(id);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Set<Long> ids = postings.get(token);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        postings.clear();
+        documents.clear();
+    }
+
+    public Set<Long> find(String query) {
+        Set<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Long> result = null;
+        for (String token : tokens) {
+            Set<Long> ids = new HashSet<>();
+            postings.subMap(token, true, token + Character.MAX_VALUE, true)
+                    .values()
+                    .forEach(ids::addAll);
+            if (result == null) {
+                result = ids;
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                return Collections.emptySet();
+            }
+        }
+        return new TreeSet<>(result);
+    }
+
+    private Set<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split(TOKEN_SEPARATOR))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,246 @@
+package book.store.service.book.search;
+
+import book.store.dto.book.BookSearchParametersDto;
+import book.store.model.Book;
+import book.store.model.Category;
+import book.store.repository.BookRepository;
+import book.store.repository.specification.book.BookSpecificationBuilder;
+import book.store.repository.specification.book.impl.PriceSpecificationProvider;
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Resolves title, author and description params from in-memory inverted indexes
+ * and categories params from category bitmaps.
+ * Books matched this way are filtered by price, sorted, paged and counted in memory too,
+ * so the database is only queried for the books of the page instead of scanning books
+ * with LIKE, joining book_categories or receiving every matching id.
+ * Searches sorted by properties that aren't kept in memory are left to the database.
+ * Writes are applied to the indexes after the current transaction commits,
+ * so a rolled back write never becomes searchable.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "book.search.engine", havingValue = "index")
+public class InvertedIndexBookSearchEngine implements BookSearchEngine {
+    private static final Map<String, Function<IndexedBook, Comparable<?>>> SORT_KEYS = Map.of(
+            "id", IndexedBook::id,
+            "title", IndexedBook::title,
+            "author", IndexedBook::author,
+            "isbn", IndexedBook::isbn,
+            "price", IndexedBook::price);
+    private final InvertedIndex titleIndex = new InvertedIndex();
+    private final InvertedIndex authorIndex = new InvertedIndex();
+    private final InvertedIndex descriptionIndex = new InvertedIndex();
+    private final CategoryBitmapIndex categoryIndex = new CategoryBitmapIndex();
+    private final Map<Long, IndexedBook> books = new ConcurrentHashMap<>();
+    private final BookRepository bookRepository;
+    private final BookSpecificationBuilder bookSpecificationBuilder;
+    private final PriceSpecificationProvider priceSpecificationProvider;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        titleIndex.clear();
+        authorIndex.clear();
+        descriptionIndex.clear();
+        categoryIndex.clear();
+        books.clear();
+        bookRepository.findAll().forEach(this::indexFields);
+        bookRepository.findAllCategoriesIds()
+                .forEach(row -> categoryIndex.add(row.categoryId(), row.bookId()));
+    }
+
+    @Override
+    public List<Book> search(BookSearchParametersDto parametersDto, Pageable pageable) {
+        Optional<Set<Long>> matchingIds = isSortable(pageable.getSort())
+                ? findIds(parametersDto)
+                : Optional.empty();
+        if (matchingIds.isEmpty()) {
+            return bookRepository.findPage(
+                    bookSpecificationBuilder.build(parametersDto), pageable);
+        }
+        Stream<IndexedBook> matching = matchingIds.get()
+                .stream()
+                .map(books::get)
+                .filter(Objects::nonNull);
+        if (pageable.getSort().isSorted()) {
+            matching = matching.sorted(getComparator(pageable.getSort()));
+        }
+        if (pageable.isPaged()) {
+            matching = matching.skip(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        return bookRepository.findAllInOrder(matching.map(IndexedBook::id).toList());
+    }
+
+    @Override
+    public Map<Long, Long> countByCategory(BookSearchParametersDto parametersDto) {
+        Optional<Set<Long>> matchingIds = findIds(parametersDto);
+        if (matchingIds.isEmpty()) {
+            return bookRepository.countByCategory(bookSpecificationBuilder.build(parametersDto));
+        }
+        return categoryIndex.count(matchingIds.get());
+    }
+
+    @Override
+    public Map<BigDecimal, Long> countByPrice(BookSearchParametersDto parametersDto) {
+        Optional<Set<Long>> matchingIds = findIds(parametersDto);
+        if (matchingIds.isEmpty()) {
+            return bookRepository.countByPrice(bookSpecificationBuilder.build(parametersDto));
+        }
+        return matchingIds.get()
+                .stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(IndexedBook::price, Collectors.counting()));
+    }
+
+    @Override
+    public void index(Book book) {
+        List<Long> categoriesIds = book.getCategories()
+                .stream()
+                .map(Category::getId)
+                .toList();
+        afterCommit(() -> {
+            indexFields(book);
+            categoryIndex.set(book.getId(), categoriesIds);
+        });
+    }
+
+    @Override
+    public void remove(Long id) {
+        afterCommit(() -> {
+            titleIndex.remove(id);
+            authorIndex.remove(id);
+            descriptionIndex.remove(id);
+            categoryIndex.remove(id);
+            books.remove(id);
+        });
+    }
+
+    @Override
+    public void removeCategory(Long categoryId) {
+        afterCommit(() -> categoryIndex.removeCategory(categoryId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            action.run();
+                        }
+                    });
+        } else {
+            action.run();
+        }
+    }
+
+    private void indexFields(Book book) {
+        titleIndex.add(book.getId(), book.getTitle());
+        authorIndex.add(book.getId(), book.getAuthor());
+        descriptionIndex.add(book.getId(), book.getDescription());
+        books.put(book.getId(), new IndexedBook(book.getId(), book.getTitle(),
+                book.getAuthor(), book.getIsbn(), book.getPrice()));
+    }
+
+    /**
+     * Returns ids of books matching the indexed params and the price range in ascending order,
+     * or an empty optional if there are no indexed params.
+     */
+    private Optional<Set<Long>> findIds(BookSearchParametersDto parametersDto) {
+        Set<Long> ids = null;
+        ids = intersect(ids, titleIndex, parametersDto.title());
+        ids = intersect(ids, authorIndex, parametersDto.author());
+        ids = intersect(ids, descriptionIndex, parametersDto.description());
+        ids = intersect(ids, parametersDto.categoriesIds());
+        if (ids != null && hasPriceParam(parametersDto)) {
+            PriceSpecificationProvider.PriceRange range =
+                    priceSpecificationProvider.getRange(parametersDto.priceBetween());
+            ids.removeIf(id -> {
+                IndexedBook book = books.get(id);
+                return book == null || !range.contains(book.price());
+            });
+        }
+        return Optional.ofNullable(ids);
+    }
+
+    private Set<Long> intersect(Set<Long> ids, Set<Long> categoriesIds) {
+        if (categoriesIds == null || categoriesIds.isEmpty()) {
+            return ids;
+        }
+        if (ids == null) {
+            return categoryIndex.find(categoriesIds);
+        }
+        categoryIndex.retain(ids, categoriesIds);
+        return ids;
+    }
+
+    private Set<Long> intersect(Set<Long> ids, InvertedIndex index, String param) {
+        if (param == null || param.isEmpty()) {
+            return ids;
+        }
+        Set<Long> found = index.find(param);
+        if (ids == null) {
+            return found;
+        }
+        ids.retainAll(found);
+        return ids;
+    }
+
+    private boolean hasPriceParam(BookSearchParametersDto parametersDto) {
+        return parametersDto.priceBetween() != null && !parametersDto.priceBetween().isEmpty();
+    }
+
+    private boolean isSortable(Sort sort) {
+        return sort.stream().allMatch(order -> SORT_KEYS.containsKey(order.getProperty()));
+    }
+
+    /**
+     * Orders books the way the database would for the same sort, ties are ordered by id.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparator<IndexedBook> getComparator(Sort sort) {
+        Comparator<IndexedBook> comparator = null;
+        for (Sort.Order order : sort) {
+            Function<IndexedBook, Comparable<?>> key = SORT_KEYS.get(order.getProperty());
+            Comparator<Comparable> values = order.isIgnoreCase()
+                    ? Comparator.comparing(value -> value.toString(),
+                            String.CASE_INSENSITIVE_ORDER)
+                    : Comparator.naturalOrder();
+            if (order.isDescending()) {
+                values = values.reversed();
+            }
+            Comparator<IndexedBook> next = Comparator.comparing(
+                    book -> (Comparable) key.apply(book), Comparator.nullsLast(values));
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator.thenComparing(IndexedBook::id);
+    }
+
+    private record IndexedBook(
+            Long id,
+            String title,
+            String author,
+            String isbn,
+            BigDecimal price) {
+    }
+}
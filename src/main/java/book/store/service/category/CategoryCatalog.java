@@ -0,0 +1,18 @@
+package book.store.service.category;
+
+import book.store.dto.category.CategoryResponseDto;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+
+public interface CategoryCatalog {
+    List<CategoryResponseDto> getAll(Pageable pageable);
+
+    Optional<CategoryResponseDto> getById(Long id);
+
+    /**
+     * Should be called after categories are changed.
+     * Takes effect after the current transaction commits.
+     */
+    void invalidate();
+}
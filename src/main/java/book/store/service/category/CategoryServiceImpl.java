@@ -6,77 +6,88 @@ import book.store.dto.category.CreateCategoryRequestDto;
 import book.store.mapper.CategoryMapper;
 import book.store.model.Category;
 import book.store.repository.CategoryRepository;
+import book.store.service.book.search.BookSearchEngine;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
+import book.store.telegram.strategy.response.AdminResponseCache;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
 public class CategoryServiceImpl implements CategoryService {
-    private static final String TELEGRAM = "Telegram";
-    private static final String CATEGORY_CREATION = "Category creation";
-    private static final String CATEGORY_UPDATING = "Category updating";
-    private static final String CATEGORY_DELETING = "Category deleting";
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CategoryCatalog categoryCatalog;
+    private final BookSearchEngine bookSearchEngine;
     private final AdminNotificationStrategy<Category> notificationStrategy;
+    private final AdminResponseCache responseCache;
 
     @Override
+    @Transactional
     public CategoryResponseDto create(CreateCategoryRequestDto requestDto) {
         Category category = categoryMapper.toModel(requestDto);
         categoryRepository.save(category);
-        sendMessage(TELEGRAM, CATEGORY_CREATION, null, category);
+        categoryCatalog.invalidate();
+        sendMessage(NotificationChannel.TELEGRAM, NotificationEventType.CATEGORY_CREATION,
+                null, category);
         return categoryMapper.toResponseDto(category);
     }
 
     @Override
     public List<CategoryResponseDto> getAll(Pageable pageable) {
-        return categoryRepository.findAll(pageable)
-                .stream()
-                .map(categoryMapper::toResponseDto)
-                .collect(Collectors.toList());
+        return categoryCatalog.getAll(pageable);
     }
 
     @Override
     public CategoryResponseDto getCategoryById(Long id) {
-        return categoryRepository.findById(id)
-                .map(categoryMapper::toResponseDto)
+        return categoryCatalog.getById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Can't find a category by id " + id));
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         if (categoryRepository.findById(id).isEmpty()) {
             return;
         }
         categoryRepository.deleteById(id);
-        sendMessage(TELEGRAM, CATEGORY_DELETING, null, new Category(id));
+        bookSearchEngine.removeCategory(id);
+        categoryCatalog.invalidate();
+        responseCache.invalidate(AdminResponseCache.EntityType.CATEGORY, id);
+        sendMessage(NotificationChannel.TELEGRAM, NotificationEventType.CATEGORY_DELETING,
+                null, new Category(id));
     }
 
     @Override
+    @Transactional
     public CategoryResponseDto updateById(Long id, CategoryUpdateDto updateDto) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Can't find a category by id " + id));
         category = categoryMapper.toModel(category, updateDto);
         categoryRepository.save(category);
-        sendMessage(TELEGRAM, CATEGORY_UPDATING, null, category);
+        categoryCatalog.invalidate();
+        responseCache.invalidate(AdminResponseCache.EntityType.CATEGORY, id);
+        sendMessage(NotificationChannel.TELEGRAM, NotificationEventType.CATEGORY_UPDATING,
+                null, category);
         return categoryMapper.toResponseDto(category);
     }
 
     private void sendMessage(
-            String notificationService,
-            String messageType,
+            NotificationChannel channel,
+            NotificationEventType eventType,
             Long chatId,
             Category category) {
         notificationStrategy
                 .getNotificationService(
-                        notificationService, messageType
+                        channel, eventType
                 )
                 .sendMessage(
                         chatId, category);
@@ -0,0 +1,44 @@
+package book.store.service.category;
+
+import book.store.dto.category.CategoryResponseDto;
+import book.store.mapper.CategoryMapper;
+import book.store.repository.CategoryRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queries the database on every call.
+ * Used when book.category.catalog is not set (e.g. in tests, where categories are inserted
+ * by sql scripts).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "book.category.catalog", havingValue = "database", matchIfMissing = true)
+public class DatabaseCategoryCatalog implements CategoryCatalog {
+    private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+
+    @Override
+    public List<CategoryResponseDto> getAll(Pageable pageable) {
+        return categoryRepository.findAll(pageable)
+                .stream()
+                .map(categoryMapper::toResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<CategoryResponseDto> getById(Long id) {
+        return categoryRepository.findById(id)
+                .map(categoryMapper::toResponseDto);
+    }
+
+    @Override
+    public void invalidate() {
+    }
+}
@@ -0,0 +1,139 @@
+package book.store.service.category;
+
+import book.store.dto.category.CategoryResponseDto;
+import book.store.mapper.CategoryMapper;
+import book.store.repository.CategoryRepository;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Serves categories from an immutable snapshot without queries.
+ * The snapshot is dropped after a write commits and is loaded again by the next read,
+ * so a burst of writes costs a single reload.
+ * Writes made on other nodes are seen once the snapshot expires.
+ */
+@Component
+@ConditionalOnProperty(name = "book.category.catalog", havingValue = "snapshot")
+public class SnapshotCategoryCatalog implements CategoryCatalog {
+    private static final Map<String, Comparator<CategoryResponseDto>> SORT_PROPERTIES = Map.of(
+            "id", Comparator.comparing(CategoryResponseDto::id),
+            "name", Comparator.comparing(CategoryResponseDto::name,
+                    Comparator.nullsLast(Comparator.naturalOrder())),
+            "description", Comparator.comparing(CategoryResponseDto::description,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+    private final long ttlNanos;
+
+    public SnapshotCategoryCatalog(
+            CategoryRepository categoryRepository,
+            CategoryMapper categoryMapper,
+            @Value("${book.category.snapshot.ttl-ms:30000}") long ttlMillis) {
+        this.categoryRepository = categoryRepository;
+        this.categoryMapper = categoryMapper;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    @Override
+    public List<CategoryResponseDto> getAll(Pageable pageable) {
+        List<CategoryResponseDto> categories = getSnapshot().categories();
+        if (pageable.isUnpaged()) {
+            return categories;
+        }
+        return categories.stream()
+                .sorted(toComparator(pageable.getSort()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    @Override
+    public Optional<CategoryResponseDto> getById(Long id) {
+        return Optional.ofNullable(getSnapshot().categoriesById().get(id));
+    }
+
+    @Override
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            drop();
+                        }
+                    });
+        } else {
+            drop();
+        }
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot.get();
+        return isStale(current) ? load() : current;
+    }
+
+    /**
+     * Loading and dropping are serialized, so a snapshot read before a commit
+     * is always dropped after it.
+     */
+    private synchronized Snapshot load() {
+        Snapshot current = snapshot.get();
+        if (isStale(current)) {
+            long loadedAt = System.nanoTime();
+            List<CategoryResponseDto> categories = categoryRepository
+                    .findAll(Sort.by(Sort.Direction.ASC, "id"))
+                    .stream()
+                    .map(categoryMapper::toResponseDto)
+                    .toList();
+            current = new Snapshot(
+                    categories,
+                    categories.stream().collect(Collectors.toUnmodifiableMap(
+                            CategoryResponseDto::id, Function.identity())),
+                    loadedAt);
+            snapshot.set(current);
+        }
+        return current;
+    }
+
+    private boolean isStale(Snapshot current) {
+        return current == null || System.nanoTime() - current.loadedAt() >= ttlNanos;
+    }
+
+    private synchronized void drop() {
+        snapshot.set(null);
+    }
+
+    private Comparator<CategoryResponseDto> toComparator(Sort sort) {
+        Comparator<CategoryResponseDto> comparator = (first, second) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<CategoryResponseDto> byProperty = SORT_PROPERTIES.get(order.getProperty());
+            if (byProperty == null) {
+                throw new IllegalArgumentException(
+                        "Can't sort categories by " + order.getProperty());
+            }
+            comparator = comparator.thenComparing(
+                    order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator.thenComparing(CategoryResponseDto::id);
+    }
+
+    private record Snapshot(
+            List<CategoryResponseDto> categories,
+            Map<Long, CategoryResponseDto> categoriesById,
+            long loadedAt) {
+    }
+}
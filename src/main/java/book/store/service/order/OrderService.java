@@ -1,5 +1,6 @@
 package book.store.service.order;
 
+import book.store.dto.cursor.CursorPageDto;
 import book.store.dto.order.OrderResponseDto;
 import book.store.dto.order.OrderWithoutOrderItemsResponseDto;
 import book.store.dto.order.item.CreateOrderItemRequestDto;
@@ -14,6 +15,9 @@ public interface OrderService {
 
     List<OrderWithoutOrderItemsResponseDto> getHistory(User user, Pageable pageable);
 
+    CursorPageDto<OrderWithoutOrderItemsResponseDto> getHistoryAfter(
+            User user, Long after, int size);
+
     OrderResponseDto getOrder(User user, Long id);
 
     void updateStatus(Long id, String status);
@@ -1,5 +1,6 @@
 package book.store.service.order;
 
+import book.store.dto.cursor.CursorPageDto;
 import book.store.dto.order.OrderResponseDto;
 import book.store.dto.order.OrderWithoutOrderItemsResponseDto;
 import book.store.dto.order.item.CreateOrderItemRequestDto;
@@ -10,14 +11,17 @@ import book.store.model.Book;
 import book.store.model.Order;
 import book.store.model.OrderItem;
 import book.store.model.Payment;
-import book.store.model.ShoppingCart;
 import book.store.model.User;
 import book.store.repository.BookRepository;
 import book.store.repository.OrderItemRepository;
 import book.store.repository.OrderRepository;
 import book.store.repository.PaymentRepository;
 import book.store.repository.ShoppingCartRepository;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
+import book.store.telegram.strategy.response.AdminResponseCache;
+import book.store.util.PriceCalculator;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -27,16 +31,20 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
-    private static final String ORDER_STATUS_UPDATING = "Order status updating";
-    private static final String TELEGRAM = "Telegram";
     private final OrderRepository orderRepository;
     private final ShoppingCartRepository shoppingCartRepository;
     private final OrderMapper orderMapper;
@@ -45,27 +53,32 @@ public class OrderServiceImpl implements OrderService {
     private final AdminNotificationStrategy<Order> notificationStrategy;
     private final PaymentRepository paymentRepository;
     private final BookRepository bookRepository;
+    private final PriceCalculator priceCalculator;
+    private final TransactionTemplate transactionTemplate;
+    private final AdminResponseCache responseCache;
+    @Value("${order.overdue.chunk-size:1000}")
+    private int overdueChunkSize;
 
     @Override
     @Transactional
     public OrderResponseDto placeOrder(User user, String shippingAddress) {
         checkIfOrderExists(user.getId(), Order.Status.PENDING);
-        ShoppingCart shoppingCart = getShoppingCart(user);
+        BigDecimal price = shoppingCartRepository.getTotalPrice(user.getId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Can't place an order. User didn't add any items to their shopping cart"));
         Order order = new Order()
                 .setUserId(user.getId())
                 .setOrderDate(LocalDate.now())
                 .setStatus(Order.Status.PENDING)
-                .setShippingAddress(shippingAddress);
-        Set<OrderItem> orderItems = toOrderItems(shoppingCart, user, order);
-        order.setPrice(getTotalPrice(orderItems));
-        orderRepository.save(order);
-        orderItemRepository.saveAll(orderItems);
-        order.setOrderItems(orderItems);
-        orderRepository.save(order);
-        shoppingCart.setCartItems(new HashSet<>());
-        shoppingCartRepository.save(shoppingCart);
+                .setShippingAddress(shippingAddress)
+                .setPrice(price);
+        orderRepository.saveAndFlush(order);
+        orderItemRepository.insertFromShoppingCart(order.getId(), user.getId());
+        orderItemRepository.linkToOrder(order.getId());
+        shoppingCartRepository.clearCartItems(user.getId());
         OrderResponseDto responseDto = orderMapper.toResponseDto(order);
-        responseDto.setOrderItems(toOrderItemResponseDtos(orderItems));
+        responseDto.setOrderItems(toOrderItemResponseDtos(
+                new HashSet<>(orderItemRepository.findAllByOrderId(order.getId()))));
         return responseDto;
     }
 
@@ -84,10 +97,12 @@ public class OrderServiceImpl implements OrderService {
             payment.setStatus(Payment.Status.CANCELED);
             payment.setDeleted(true);
             paymentRepository.save(payment);
+            responseCache.invalidate(AdminResponseCache.EntityType.PAYMENT, payment.getId());
         }
         order.setStatus(Order.Status.CANCELED);
         order.setDeleted(true);
         orderRepository.save(order);
+        responseCache.invalidate(AdminResponseCache.EntityType.ORDER, order.getId());
     }
 
     @Override
@@ -98,6 +113,19 @@ public class OrderServiceImpl implements OrderService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPageDto<OrderWithoutOrderItemsResponseDto> getHistoryAfter(
+            User user, Long after, int size) {
+        Slice<Order> orders = orderRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                user.getId(), after, PageRequest.of(0, size));
+        return new CursorPageDto<>(
+                orders.map(orderMapper::toWithoutOrderItemsDto).getContent(),
+                orders.isEmpty()
+                        ? null
+                        : orders.getContent().get(orders.getNumberOfElements() - 1).getId(),
+                orders.hasNext());
+    }
+
     @Override
     public OrderResponseDto getOrder(User user, Long id) {
         Order order = orderRepository.findByUserIdWithOrderItems(
@@ -112,6 +140,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @Transactional
     public void updateStatus(Long id, String status) {
         Order.Status toSet = Order.Status.fromString(status);
         Order order = orderRepository.findById(id)
@@ -119,7 +148,9 @@ public class OrderServiceImpl implements OrderService {
                         "Can't find an order by id " + id));
         order.setStatus(toSet);
         orderRepository.save(order);
-        sendMessage(TELEGRAM, ORDER_STATUS_UPDATING, null, order);
+        responseCache.invalidate(AdminResponseCache.EntityType.ORDER, id);
+        sendMessage(NotificationChannel.TELEGRAM, NotificationEventType.ORDER_STATUS_UPDATING,
+                null, order);
     }
 
     @Override
@@ -132,10 +163,14 @@ public class OrderServiceImpl implements OrderService {
         checkIfPaymentExists(user.getId(), Payment.Status.PENDING);
         Order order = getOrderByStatusAndUserId(Order.Status.PENDING, user.getId());
         Optional<OrderItem> sameItem = getSameItem(order, requestDto.bookId());
+        BigDecimal priceDelta;
         if (sameItem.isPresent()) {
             OrderItem orderItem = sameItem.get();
+            BigDecimal oldPrice = orderItem.getPrice();
             orderItem.setQuantity(orderItem.getQuantity() + (long) requestDto.quantity());
             setPrice(orderItem, book);
+            priceDelta = orderItem.getPrice().subtract(oldPrice);
+            responseCache.invalidate(AdminResponseCache.EntityType.ORDER_ITEM, orderItem.getId());
         } else {
             OrderItem orderItem = orderItemMapper.toOrderItem(requestDto);
             setPrice(orderItem, book);
@@ -143,9 +178,11 @@ public class OrderServiceImpl implements OrderService {
             orderItem.setUserId(user.getId());
             order.getOrderItems().add(orderItem);
             orderItemRepository.save(orderItem);
+            priceDelta = orderItem.getPrice();
         }
-        order.setPrice(getTotalPrice(order.getOrderItems()));
+        order.setPrice(order.getPrice().add(priceDelta));
         orderRepository.save(order);
+        responseCache.invalidate(AdminResponseCache.EntityType.ORDER, order.getId());
         OrderResponseDto responseDto = orderMapper.toResponseDto(order);
         responseDto.setOrderItems(
                 toOrderItemResponseDtos(
@@ -158,6 +195,7 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponseDto removeBookFromOrder(User user, Long bookId) {
         checkIfPaymentExists(user.getId(), Payment.Status.PENDING);
         Order order = getOrderByStatusAndUserId(Order.Status.PENDING, user.getId());
+        Optional<OrderItem> removedItem = getSameItem(order, bookId);
         order.setOrderItems(removeItem(order, bookId));
         if (order.getOrderItems().isEmpty()) {
             throw new IllegalArgumentException("""
@@ -165,8 +203,12 @@ public class OrderServiceImpl implements OrderService {
                     User should cancel it or pay for it
                     """);
         }
-        order.setPrice(getTotalPrice(order.getOrderItems()));
+        removedItem.ifPresent(item -> {
+            order.setPrice(order.getPrice().subtract(item.getPrice()));
+            responseCache.invalidate(AdminResponseCache.EntityType.ORDER_ITEM, item.getId());
+        });
         orderRepository.save(order);
+        responseCache.invalidate(AdminResponseCache.EntityType.ORDER, order.getId());
         OrderResponseDto responseDto = orderMapper.toResponseDto(order);
         responseDto.setOrderItems(
                 toOrderItemResponseDtos(
@@ -188,14 +230,55 @@ public class OrderServiceImpl implements OrderService {
         return responseDto;
     }
 
+    /**
+     * Cancels and deletes pending orders placed before today, with their items,
+     * and cancels their pending payments.
+     * Orders are processed in chunks of consecutive ids, each chunk in its own transaction
+     * with three bulk updates, so no entities are loaded.
+     */
     @Scheduled(cron = "0 0 1 * * *")
-    @Transactional
     public void markOverdueOrdersAsCanceled() {
-        List<Order> overDueOrders =
-                orderRepository.findAllByStatusAndOrderDate(
-                        Order.Status.PENDING, LocalDate.now());
-        overDueOrders.forEach(order -> order.setStatus(Order.Status.CANCELED));
-        orderRepository.deleteAll(overDueOrders);
+        LocalDate today = LocalDate.now();
+        long startTime = System.nanoTime();
+        long orders = 0;
+        long payments = 0;
+        long orderItems = 0;
+        Long after = 0L;
+        List<Long> ids;
+        do {
+            ids = orderRepository.findIdsByStatusAndOrderDateBefore(
+                    Order.Status.PENDING, today, after, PageRequest.of(0, overdueChunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Long fromId = ids.get(0);
+            Long toId = ids.get(ids.size() - 1);
+            CanceledRows canceled = transactionTemplate.execute(status ->
+                    cancelOverdueOrders(today, fromId, toId));
+            orders += canceled.orders();
+            payments += canceled.payments();
+            orderItems += canceled.orderItems();
+            after = toId;
+        } while (ids.size() == overdueChunkSize);
+        long millis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        log.info("Canceled {} overdue orders, {} payments and {} order items in {} ms"
+                        + " ({} rows/s)",
+                orders, payments, orderItems, millis,
+                (orders + payments + orderItems) * 1000 / millis);
+    }
+
+    private CanceledRows cancelOverdueOrders(LocalDate today, Long fromId, Long toId) {
+        responseCache.invalidateAll(AdminResponseCache.EntityType.PAYMENT);
+        responseCache.invalidateAll(AdminResponseCache.EntityType.ORDER_ITEM);
+        responseCache.invalidateAll(AdminResponseCache.EntityType.ORDER);
+        int payments = paymentRepository.updateStatusByOrderStatusAndOrderDate(
+                Payment.Status.PENDING, Order.Status.PENDING, today, fromId, toId,
+                Payment.Status.CANCELED);
+        int orderItems = orderItemRepository.deleteByOrderStatusAndOrderDate(
+                Order.Status.PENDING, today, fromId, toId);
+        int orders = orderRepository.updateStatusAndDelete(
+                Order.Status.PENDING, today, fromId, toId, Order.Status.CANCELED);
+        return new CanceledRows(orders, payments, orderItems);
     }
 
     private void checkIfOrderExists(Long userId, Order.Status status) {
@@ -220,46 +303,6 @@ public class OrderServiceImpl implements OrderService {
         }
     }
 
-    private Set<OrderItem> toOrderItems(
-            ShoppingCart shoppingCart,
-            User user,
-            Order order) {
-        return shoppingCart.getCartItems()
-                .stream()
-                .map(item -> {
-                    OrderItem orderItem = orderItemMapper.toOrderItem(item);
-                    orderItem.setUserId(user.getId());
-                    BigDecimal price = item.getBook().getPrice()
-                            .multiply(BigDecimal.valueOf(item.getQuantity()));
-                    orderItem.setPrice(price);
-                    orderItem.setOrder(order);
-                    return orderItem;
-                })
-                .collect(Collectors.toSet());
-    }
-
-    private ShoppingCart getShoppingCart(User user) {
-        ShoppingCart shoppingCart = shoppingCartRepository
-                .findByIdWithCartItemsAndBooks(user.getId())
-                .orElseThrow(() -> new EntityNotFoundException(
-                        "Can't find user's shopping cart"));
-        if (shoppingCart.getCartItems().isEmpty()) {
-            throw new IllegalArgumentException(
-                    "Can't place an order. User didn't add any items to their shopping cart");
-        }
-        return shoppingCart;
-    }
-
-    private BigDecimal getTotalPrice(Set<OrderItem> orderItems) {
-        return BigDecimal.valueOf(
-                orderItems
-                        .stream()
-                        .map(OrderItem::getPrice)
-                        .mapToDouble(BigDecimal::doubleValue)
-                        .sum()
-        );
-    }
-
     private Set<OrderItemResponseDto> toOrderItemResponseDtos(Set<OrderItem> orderItems) {
         return orderItems
                 .stream()
@@ -282,12 +325,8 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private void setPrice(OrderItem orderItem, Book book) {
-        orderItem.setPrice(book.getPrice()
-                .multiply(
-                        BigDecimal.valueOf(
-                                orderItem.getQuantity())
-                )
-        );
+        orderItem.setPrice(priceCalculator.getLinePrice(
+                book.getPrice(), orderItem.getQuantity()));
     }
 
     private Order getOrderByStatusAndUserId(Order.Status status, Long userId) {
@@ -298,15 +337,18 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private void sendMessage(
-            String notificationService,
-            String messageType,
+            NotificationChannel channel,
+            NotificationEventType eventType,
             Long chatId,
             Order order) {
         notificationStrategy
                 .getNotificationService(
-                        notificationService, messageType
+                        channel, eventType
                 )
                 .sendMessage(
                         chatId, order);
     }
+
+    private record CanceledRows(int orders, int payments, int orderItems) {
+    }
 }
@@ -1,5 +1,6 @@
 package book.store.service.payment;
 
+import book.store.dto.cursor.CursorPageDto;
 import book.store.dto.payment.PaymentResponseDto;
 import book.store.model.User;
 import com.stripe.exception.StripeException;
@@ -17,4 +18,6 @@ public interface PaymentService {
     PaymentResponseDto success(User user);
 
     List<PaymentResponseDto> getUserPayments(Long userId, Pageable pageable);
+
+    CursorPageDto<PaymentResponseDto> getUserPaymentsAfter(Long userId, Long after, int size);
 }
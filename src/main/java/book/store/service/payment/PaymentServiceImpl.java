@@ -1,5 +1,6 @@
 package book.store.service.payment;
 
+import book.store.dto.cursor.CursorPageDto;
 import book.store.dto.payment.PaymentResponseDto;
 import book.store.mapper.PaymentMapper;
 import book.store.model.Order;
@@ -7,7 +8,10 @@ import book.store.model.Payment;
 import book.store.model.User;
 import book.store.repository.OrderRepository;
 import book.store.repository.PaymentRepository;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
+import book.store.telegram.strategy.response.AdminResponseCache;
 import book.store.util.StripeUtil;
 import com.stripe.Stripe;
 import com.stripe.exception.StripeException;
@@ -20,20 +24,21 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class PaymentServiceImpl implements PaymentService {
-    public static final String TELEGRAM = "Telegram";
-    public static final String SUCCESSFUL_PAYMENT = "Successful payment";
     private final AdminNotificationStrategy<Payment> notificationStrategy;
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
     private final PaymentMapper paymentMapper;
     private final StripeUtil stripeUtil;
+    private final AdminResponseCache responseCache;
     @Value("${stripe.api.key}")
     private String apiKey;
 
@@ -86,6 +91,7 @@ public class PaymentServiceImpl implements PaymentService {
         payment.setDeleted(true);
         payment.setStatus(Payment.Status.CANCELED);
         paymentRepository.save(payment);
+        responseCache.invalidate(AdminResponseCache.EntityType.PAYMENT, payment.getId());
         return paymentMapper.toResponseDto(payment);
     }
 
@@ -101,7 +107,10 @@ public class PaymentServiceImpl implements PaymentService {
         order.setStatus(Order.Status.PAID);
         paymentRepository.save(payment);
         orderRepository.save(order);
-        sendMessage(TELEGRAM, SUCCESSFUL_PAYMENT, null, payment);
+        responseCache.invalidate(AdminResponseCache.EntityType.PAYMENT, payment.getId());
+        responseCache.invalidate(AdminResponseCache.EntityType.ORDER, order.getId());
+        sendMessage(NotificationChannel.TELEGRAM, NotificationEventType.SUCCESSFUL_PAYMENT,
+                null, payment);
         return paymentMapper.toResponseDto(payment);
     }
 
@@ -113,6 +122,19 @@ public class PaymentServiceImpl implements PaymentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPageDto<PaymentResponseDto> getUserPaymentsAfter(
+            Long userId, Long after, int size) {
+        Slice<Payment> payments = paymentRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                userId, after, PageRequest.of(0, size));
+        return new CursorPageDto<>(
+                payments.map(paymentMapper::toResponseDto).getContent(),
+                payments.isEmpty()
+                        ? null
+                        : payments.getContent().get(payments.getNumberOfElements() - 1).getId(),
+                payments.hasNext());
+    }
+
     private Payment getPayment(Long userId, Payment.Status status) {
         return paymentRepository.findByUserIdAndStatus(userId, status)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -122,13 +144,13 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     private void sendMessage(
-            String notificationService,
-            String messageType,
+            NotificationChannel channel,
+            NotificationEventType eventType,
             Long chatId,
             Payment payment) {
         notificationStrategy
                 .getNotificationService(
-                        notificationService, messageType
+                        channel, eventType
                 )
                 .sendMessage(
                         chatId, payment);
@@ -3,6 +3,7 @@ package book.store.service.shopping.cart;
 import book.store.dto.shopping.cart.ShoppingCartResponseDto;
 import book.store.dto.shopping.item.CreateCartItemRequestDto;
 import book.store.model.User;
+import java.math.BigDecimal;
 
 public interface ShoppingCartService {
     ShoppingCartResponseDto getMyShoppingCart(User user);
@@ -11,7 +12,7 @@ public interface ShoppingCartService {
 
     ShoppingCartResponseDto addCartItem(User user, CreateCartItemRequestDto requestDto);
 
-    Double getPrice(User user);
+    BigDecimal getPrice(User user);
 
     ShoppingCartResponseDto updateAnItem(User user, Long bookId, int quantity);
 
@@ -12,6 +12,7 @@ import book.store.model.User;
 import book.store.repository.BookRepository;
 import book.store.repository.CartItemRepository;
 import book.store.repository.ShoppingCartRepository;
+import book.store.util.PriceCalculator;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
 import java.util.HashSet;
@@ -30,6 +31,7 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
     private final CartItemMapper cartItemMapper;
     private final CartItemRepository cartItemRepository;
     private final BookRepository bookRepository;
+    private final PriceCalculator priceCalculator;
 
     @Override
     public ShoppingCartResponseDto getMyShoppingCart(User user) {
@@ -69,17 +71,11 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
     }
 
     @Override
-    public Double getPrice(User user) {
-        return getShoppingCartWithBooks(user.getId())
-                .getCartItems()
-                .stream()
-                .map(item -> item.getBook().getPrice()
-                        .multiply(
-                                BigDecimal.valueOf(item.getQuantity())
-                        )
-                )
-                .mapToDouble(BigDecimal::doubleValue)
-                .sum();
+    public BigDecimal getPrice(User user) {
+        return priceCalculator.getTotalPrice(
+                getShoppingCartWithBooks(user.getId()).getCartItems(),
+                item -> priceCalculator.getLinePrice(
+                        item.getBook().getPrice(), item.getQuantity()));
     }
 
     @Override
@@ -136,9 +132,8 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
                 .stream()
                 .map(item -> {
                     CartItemResponseDto responseDto = cartItemMapper.toResponseDto(item);
-                    responseDto.setPrice(
-                            item.getBook().getPrice().multiply(
-                                    BigDecimal.valueOf(item.getQuantity())));
+                    responseDto.setPrice(priceCalculator.getLinePrice(
+                            item.getBook().getPrice(), item.getQuantity()));
                     return responseDto;
                 })
                 .collect(Collectors.toSet());
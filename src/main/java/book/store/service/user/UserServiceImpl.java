@@ -13,7 +13,11 @@ import book.store.model.User;
 import book.store.repository.ShoppingCartRepository;
 import book.store.repository.UserRepository;
 import book.store.repository.specification.SpecificationBuilder;
+import book.store.security.JwtClaimsRevocationService;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
+import book.store.telegram.strategy.response.AdminResponseCache;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.HashSet;
 import java.util.List;
@@ -24,13 +28,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
-    private static final String USER_UPDATING = "Role updating";
-    private static final String USER_DELETING = "User deleting";
-    private static final String TELEGRAM = "Telegram";
     private static final int TWO = 2;
     private static final int ONE = 1;
     private final UserRepository userRepository;
@@ -39,6 +41,8 @@ public class UserServiceImpl implements UserService {
     private final SpecificationBuilder<User, UserSearchParametersDto> specificationBuilder;
     private final AdminNotificationStrategy<User> notificationStrategy;
     private final ShoppingCartRepository shoppingCartRepository;
+    private final JwtClaimsRevocationService revocationService;
+    private final AdminResponseCache responseCache;
 
     @Override
     public UserResponseDto register(UserRegistrationRequestDto requestDto)
@@ -67,6 +71,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public UserAdminResponseDto changeUserRole(Long id, String roleName) {
         User user = userRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException(
@@ -85,18 +90,23 @@ public class UserServiceImpl implements UserService {
             roles.add(new Role(1L));
             user.setRoles(roles);
         }
+        user.setTokenVersion(user.getTokenVersion() + 1);
         userRepository.save(user);
-        sendMessage(TELEGRAM, USER_UPDATING, null, user);
+        revocationService.revoke(id);
+        responseCache.invalidate(AdminResponseCache.EntityType.USER, id);
+        sendMessage(NotificationChannel.TELEGRAM, NotificationEventType.ROLE_UPDATING, null, user);
         return userMapper.toAdminResponseDto(user);
     }
 
     @Override
     public UserResponseDto getMyInfo(User user) {
-        return userMapper.toResponseDto(user);
+        return userMapper.toResponseDto(getStoredUser(user));
     }
 
     @Override
-    public UserResponseDto updateMyInfo(User user, UserUpdateRequestDto requestDto) {
+    @Transactional
+    public UserResponseDto updateMyInfo(User authenticatedUser, UserUpdateRequestDto requestDto) {
+        User user = getStoredUser(authenticatedUser);
         if (requestDto.email() != null
                 && userRepository.findByEmail(requestDto.email()).isPresent()) {
             throw new IllegalArgumentException("""
@@ -105,12 +115,21 @@ public class UserServiceImpl implements UserService {
                     Try another one
                     """);
         }
+        boolean credentialsChanged = requestDto.password() != null
+                || (requestDto.email() != null && !requestDto.email().equals(user.getEmail()));
         if (requestDto.password() != null) {
             String passwordEncoded = passwordEncoder.encode(requestDto.password());
             user.setPassword(passwordEncoded);
         }
         userMapper.toModel(user, requestDto);
+        if (credentialsChanged) {
+            user.setTokenVersion(user.getTokenVersion() + 1);
+        }
         userRepository.save(user);
+        if (credentialsChanged) {
+            revocationService.revoke(user.getId());
+        }
+        responseCache.invalidate(AdminResponseCache.EntityType.USER, user.getId());
         return userMapper.toResponseDto(user);
     }
 
@@ -126,13 +145,24 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public void delete(Long id) {
         if (userRepository.findByIdWithoutRole(id).isEmpty()) {
             return;
         }
         userRepository.deleteById(id);
         shoppingCartRepository.deleteById(id);
-        sendMessage(TELEGRAM, USER_DELETING, null, new User(id));
+        revocationService.revoke(id);
+        responseCache.invalidate(AdminResponseCache.EntityType.USER, id);
+        sendMessage(NotificationChannel.TELEGRAM, NotificationEventType.USER_DELETING,
+                null, new User(id));
+    }
+
+    private User getStoredUser(User user) {
+        // a principal built from jwt claims carries only id, email and roles
+        return userRepository.findByIdWithoutRole(user.getId())
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Can't find a user by id " + user.getId()));
     }
 
     private boolean userIs(User user, Role.RoleName roleName) {
@@ -143,13 +173,13 @@ public class UserServiceImpl implements UserService {
     }
 
     private void sendMessage(
-            String notificationsService,
-            String messageType,
+            NotificationChannel channel,
+            NotificationEventType eventType,
             Long chatId,
             User user) {
         notificationStrategy
                 .getNotificationService(
-                        notificationsService, messageType
+                        channel, eventType
                 )
                 .sendMessage(
                         chatId, user);
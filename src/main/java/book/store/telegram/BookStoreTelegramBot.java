@@ -1,9 +1,15 @@
 package book.store.telegram;
 
+import book.store.exception.NotificationDeliveryException;
 import book.store.telegram.strategy.response.AdminResponseStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.Objects;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.methods.updates.DeleteWebhook;
@@ -11,18 +17,31 @@ import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 
 @Component
+@ConditionalOnProperty(name = "notification.transport", havingValue = "telegram",
+        matchIfMissing = true)
 public class BookStoreTelegramBot extends TelegramLongPollingBot {
     private static final String BOT_USERNAME = "bondbookstorebot";
+    private static final String SEND_MESSAGE_TIMER = "book.store.telegram.send.message";
+    private static final String SEND_MESSAGE_FAILURES = "book.store.telegram.send.message.failures";
     private final Long chatId;
     private final AdminResponseStrategy adminResponseStrategy;
+    private final TelegramRateLimiter rateLimiter;
+    private final Timer sendMessageTimer;
+    private final Counter sendMessageFailures;
 
     public BookStoreTelegramBot(
             @Value("${telegram.bot.token}") String botToken,
+            @Value("${telegram.bot.base-url:https://api.telegram.org/bot}") String baseUrl,
             @Value("${default.telegram.admin.chat.id}") Long chatId,
-            AdminResponseStrategy adminResponseStrategy) {
-        super(botToken);
+            AdminResponseStrategy adminResponseStrategy,
+            TelegramRateLimiter rateLimiter,
+            MeterRegistry meterRegistry) {
+        super(createOptions(baseUrl), botToken);
         this.chatId = chatId;
         this.adminResponseStrategy = adminResponseStrategy;
+        this.rateLimiter = rateLimiter;
+        sendMessageTimer = meterRegistry.timer(SEND_MESSAGE_TIMER);
+        sendMessageFailures = meterRegistry.counter(SEND_MESSAGE_FAILURES);
     }
 
     @Override
@@ -53,10 +72,15 @@ public class BookStoreTelegramBot extends TelegramLongPollingBot {
         }
         String chatIdString = String.valueOf(chatId);
         SendMessage sendMessage = new SendMessage(chatIdString, text);
+        rateLimiter.acquire(chatId);
+        Timer.Sample sample = Timer.start();
         try {
             execute(sendMessage);
         } catch (TelegramApiException e) {
-            throw new RuntimeException("Can't send message " + text);
+            sendMessageFailures.increment();
+            throw new NotificationDeliveryException("Can't send message to chat " + chatId, e);
+        } finally {
+            sample.stop(sendMessageTimer);
         }
     }
 
@@ -65,7 +89,13 @@ public class BookStoreTelegramBot extends TelegramLongPollingBot {
             DeleteWebhook deleteWebhook = new DeleteWebhook();
             execute(deleteWebhook);
         } catch (TelegramApiException e) {
-            throw new RuntimeException("Can't remove old webhook " + e);
+            throw new NotificationDeliveryException("Can't remove old webhook", e);
         }
     }
+
+    private static DefaultBotOptions createOptions(String baseUrl) {
+        DefaultBotOptions options = new DefaultBotOptions();
+        options.setBaseUrl(baseUrl);
+        return options;
+    }
 }
@@ -0,0 +1,52 @@
+package book.store.telegram;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spaces out messages to stay within Telegram limits:
+ * about one message per second to a chat and about thirty per second overall.
+ * Each caller reserves the next free slot and sleeps until it comes.
+ * Slots of chats that have already passed are dropped, so only chats messaged within
+ * the last chat interval are remembered.
+ */
+@Component
+public class TelegramRateLimiter {
+    private final Map<Long, Long> nextChatSlots = new HashMap<>();
+    private final long chatIntervalNanos;
+    private final long globalIntervalNanos;
+    private long nextGlobalSlot;
+
+    public TelegramRateLimiter(
+            @Value("${telegram.rate-limit.chat-interval-ms:1000}") long chatIntervalMillis,
+            @Value("${telegram.rate-limit.global-interval-ms:35}") long globalIntervalMillis) {
+        chatIntervalNanos = TimeUnit.MILLISECONDS.toNanos(chatIntervalMillis);
+        globalIntervalNanos = TimeUnit.MILLISECONDS.toNanos(globalIntervalMillis);
+        nextGlobalSlot = System.nanoTime();
+    }
+
+    public void acquire(Long chatId) {
+        long delay = reserve(chatId, System.nanoTime());
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to send a message", e);
+        }
+    }
+
+    synchronized long reserve(Long chatId, long now) {
+        nextChatSlots.values().removeIf(nextChatSlot -> nextChatSlot - now <= 0);
+        long nextChatSlot = nextChatSlots.getOrDefault(chatId, now);
+        long slot = Math.max(now, Math.max(nextGlobalSlot, nextChatSlot));
+        nextGlobalSlot = slot + globalIntervalNanos;
+        nextChatSlots.put(chatId, slot + chatIntervalNanos);
+        return slot - now;
+    }
+}
@@ -1,6 +1,5 @@
 package book.store.telegram.notification;
 
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -9,18 +8,13 @@ public class AbstractNotificationSender {
     private static final String LINE_SEPARATOR = System.lineSeparator();
     private static final String MESSAGE_SEPARATOR = "***";
     @Autowired
-    private List<NotificationService> notificationServices;
+    private NotificationDispatcher notificationDispatcher;
 
-    protected void sendMessage(String notificationService,
+    protected void sendMessage(NotificationChannel channel,
                                  Long chatId,
                                  String text) {
         text = MESSAGE_SEPARATOR + LINE_SEPARATOR + text + LINE_SEPARATOR + MESSAGE_SEPARATOR;
-        notificationServices
-                .stream()
-                .filter(service -> service.isApplicable(notificationService))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Can't find a notification service " + notificationService))
-                .sendMessage(chatId, text);
+        notificationDispatcher.enqueue(
+                new PendingNotification(channel, chatId, text));
     }
 }
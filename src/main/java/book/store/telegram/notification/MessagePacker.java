@@ -0,0 +1,75 @@
+package book.store.telegram.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MessagePacker {
+    public static final int TELEGRAM_MESSAGE_LIMIT = 4096;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * Joins messages into as few texts as possible, none longer than the limit.
+     * A message that does not fit into the limit on its own is split.
+     */
+    public List<String> pack(List<String> messages, int limit) {
+        List<String> packed = new ArrayList<>();
+        pack(messages.stream(), limit, packed::add);
+        return packed;
+    }
+
+    /**
+     * Packs messages the same way as they are streamed, passing each text to the consumer
+     * as soon as it is full, so only one text is held in memory.
+     */
+    public void pack(Stream<String> messages, int limit, Consumer<String> consumer) {
+        pack(messages, Function.identity(), limit, (text, packed) -> consumer.accept(text));
+    }
+
+    /**
+     * Packs texts of the items the same way, passing each text together with the items
+     * it completes. An item split into several texts is passed with the last of them.
+     */
+    public <T> void pack(
+            Stream<T> items,
+            Function<T, String> toText,
+            int limit,
+            BiConsumer<String, List<T>> consumer) {
+        StringBuilder current = new StringBuilder();
+        List<T> packed = new ArrayList<>();
+        items.forEach(item -> {
+            for (String part : split(toText.apply(item), limit)) {
+                if (!current.isEmpty()
+                        && current.length() + LINE_SEPARATOR.length() + part.length() > limit) {
+                    consumer.accept(current.toString(), List.copyOf(packed));
+                    current.setLength(0);
+                    packed.clear();
+                }
+                if (!current.isEmpty()) {
+                    current.append(LINE_SEPARATOR);
+                }
+                current.append(part);
+            }
+            packed.add(item);
+        });
+        if (!current.isEmpty()) {
+            consumer.accept(current.toString(), List.copyOf(packed));
+        }
+    }
+
+    private List<String> split(String message, int limit) {
+        if (message.length() <= limit) {
+            return List.of(message);
+        }
+        List<String> parts = new ArrayList<>();
+        for (int start = 0; start < message.length(); start += limit) {
+            parts.add(message.substring(start, Math.min(message.length(), start + limit)));
+        }
+        return parts;
+    }
+}
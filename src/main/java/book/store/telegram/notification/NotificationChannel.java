@@ -0,0 +1,5 @@
+package book.store.telegram.notification;
+
+public enum NotificationChannel {
+    TELEGRAM
+}
@@ -0,0 +1,236 @@
+package book.store.telegram.notification;
+
+import book.store.model.OutboxNotification;
+import book.store.repository.OutboxNotificationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Delivers admin notifications through a transactional outbox.
+ * Notifications are stored in the notification_outbox table within the business transaction,
+ * a virtual thread relays them in batches after commit, packs the ones addressed to the same chat
+ * into digest messages and marks them as sent.
+ * Each batch is claimed for a while before it is sent, so several instances don't send
+ * the same rows, and sent or failed rows are deleted once they are older than the retention period.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+    private final Map<NotificationChannel, NotificationService> notificationServices =
+            new EnumMap<>(NotificationChannel.class);
+    private final MessagePacker messagePacker;
+    private final OutboxNotificationRepository outboxRepository;
+    private final Semaphore signal = new Semaphore(0);
+    @Value("${notification.outbox.poll-interval-ms:5000}")
+    private long pollIntervalMillis;
+    @Value("${notification.batch.max-size:100}")
+    private int maxBatchSize;
+    @Value("${notification.batch.linger-ms:500}")
+    private long lingerMillis;
+    @Value("${notification.outbox.claim-ttl-ms:60000}")
+    private long claimTtlMillis;
+    @Value("${notification.outbox.retention-days:7}")
+    private int retentionDays;
+    @Value("${notification.retry.max-attempts:5}")
+    private int maxAttempts;
+    @Value("${notification.retry.backoff-ms:1000}")
+    private long backoffMillis;
+    @Value("${notification.retry.max-backoff-ms:60000}")
+    private long maxBackoffMillis;
+    private Thread worker;
+    private volatile boolean running;
+
+    public NotificationDispatcher(
+            List<NotificationService> notificationServices,
+            MessagePacker messagePacker,
+            OutboxNotificationRepository outboxRepository) {
+        for (NotificationService service : notificationServices) {
+            if (this.notificationServices.put(service.getChannel(), service) != null) {
+                throw new IllegalStateException(
+                        "Several notification services for " + service.getChannel());
+            }
+        }
+        EnumSet<NotificationChannel> missing = EnumSet.allOf(NotificationChannel.class);
+        missing.removeAll(this.notificationServices.keySet());
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Can't find notification services for " + missing);
+        }
+        this.messagePacker = messagePacker;
+        this.outboxRepository = outboxRepository;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual()
+                .name("notification-dispatcher")
+                .start(this::relay);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Transactional
+    public void enqueue(PendingNotification notification) {
+        getNotificationService(notification.channel());
+        List<OutboxNotification> notifications = messagePacker
+                .pack(List.of(notification.text()), MessagePacker.TELEGRAM_MESSAGE_LIMIT)
+                .stream()
+                .map(text -> new OutboxNotification()
+                        .setChannel(notification.channel())
+                        .setChatId(notification.chatId())
+                        .setText(text))
+                .toList();
+        outboxRepository.saveAll(notifications);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            signal.release();
+                        }
+                    });
+        } else {
+            signal.release();
+        }
+    }
+
+    private void relay() {
+        int failures = 0;
+        while (running) {
+            try {
+                if (signal.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS)) {
+                    signal.drainPermits();
+                    Thread.sleep(lingerMillis);
+                }
+                List<Long> ids;
+                do {
+                    LocalDateTime now = LocalDateTime.now();
+                    ids = outboxRepository.findClaimableIds(
+                            OutboxNotification.Status.PENDING, now,
+                            PageRequest.of(0, maxBatchSize));
+                    if (!deliver(claim(ids, now))) {
+                        failures++;
+                        Thread.sleep(Math.min(
+                                maxBackoffMillis, backoffMillis << Math.min(failures - 1, 16)));
+                        break;
+                    }
+                    failures = 0;
+                } while (running && ids.size() == maxBatchSize);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Can't relay notifications from the outbox", e);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${notification.outbox.retention-cron:0 30 2 * * *}")
+    public void deleteExpired() {
+        int deleted = outboxRepository.deleteAllByStatusInAndCreatedAtBefore(
+                EnumSet.of(OutboxNotification.Status.SENT, OutboxNotification.Status.FAILED),
+                LocalDateTime.now().minusDays(retentionDays));
+        log.info("Deleted {} sent and failed notifications from the outbox", deleted);
+    }
+
+    private List<OutboxNotification> claim(List<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String claimedBy = UUID.randomUUID().toString();
+        outboxRepository.claim(ids, OutboxNotification.Status.PENDING, claimedBy,
+                now.plus(claimTtlMillis, ChronoUnit.MILLIS), now);
+        return outboxRepository.findAllByClaimedByAndStatusOrderByIdAsc(
+                claimedBy, OutboxNotification.Status.PENDING);
+    }
+
+    private boolean deliver(List<OutboxNotification> batch) {
+        Map<Recipient, List<OutboxNotification>> notifications = new LinkedHashMap<>();
+        batch.forEach(notification -> notifications
+                .computeIfAbsent(
+                        new Recipient(notification.getChannel(),
+                                notification.getChatId()),
+                        recipient -> new ArrayList<>())
+                .add(notification));
+        boolean delivered = true;
+        for (Map.Entry<Recipient, List<OutboxNotification>> entry : notifications.entrySet()) {
+            delivered &= send(entry.getKey(), entry.getValue());
+        }
+        return delivered;
+    }
+
+    /**
+     * Sends the notifications packed into digests and marks the ones of each digest as sent
+     * right after it is delivered, so a failed digest doesn't make earlier ones be sent again.
+     */
+    private boolean send(Recipient recipient, List<OutboxNotification> notifications) {
+        List<Digest> digests = new ArrayList<>();
+        messagePacker.pack(notifications.stream(), OutboxNotification::getText,
+                MessagePacker.TELEGRAM_MESSAGE_LIMIT,
+                (text, packed) -> digests.add(new Digest(text, getIds(packed))));
+        for (int i = 0; i < digests.size(); i++) {
+            try {
+                getNotificationService(recipient.channel())
+                        .sendMessage(recipient.chatId(), digests.get(i).text());
+            } catch (RuntimeException e) {
+                log.warn("Can't send {} notifications to chat {}",
+                        notifications.size(), recipient.chatId(), e);
+                List<Long> ids = digests.subList(i, digests.size())
+                        .stream()
+                        .flatMap(digest -> digest.ids().stream())
+                        .toList();
+                outboxRepository.incrementAttempts(ids);
+                outboxRepository.updateStatusIfAttemptsReached(
+                        ids, OutboxNotification.Status.FAILED, maxAttempts);
+                return false;
+            }
+            outboxRepository.updateStatus(digests.get(i).ids(), OutboxNotification.Status.SENT);
+        }
+        return true;
+    }
+
+    private List<Long> getIds(List<OutboxNotification> notifications) {
+        return notifications
+                .stream()
+                .map(OutboxNotification::getId)
+                .toList();
+    }
+
+    private NotificationService getNotificationService(NotificationChannel channel) {
+        NotificationService service = notificationServices.get(channel);
+        if (service == null) {
+            throw new IllegalArgumentException("Can't find a notification service " + channel);
+        }
+        return service;
+    }
+
+    private record Recipient(NotificationChannel channel, Long chatId) {
+    }
+
+    private record Digest(String text, List<Long> ids) {
+    }
+}
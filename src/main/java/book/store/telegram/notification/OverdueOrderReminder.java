@@ -0,0 +1,76 @@
+package book.store.telegram.notification;
+
+import book.store.dto.order.OverdueOrderDto;
+import book.store.model.Order;
+import book.store.repository.OrderRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reminds admins of paid orders made before today that are not being delivered yet.
+ * Orders are read page by page with a keyset cursor and packed into digests of up to
+ * the Telegram message limit as they are read, the digests are delivered through the outbox.
+ */
+@Component
+@RequiredArgsConstructor
+public class OverdueOrderReminder {
+    private static final String HEADER = """
+            These orders are paid but not being delivered yet.
+            To get more info about an order send me a message like that:
+            Get info about an order with id: ...
+            """;
+    private static final String ORDER_LINE =
+            "Order id: %s, user id: %s, made: %s, price: %s, shipping address: %s.";
+    private final OrderRepository orderRepository;
+    private final MessagePacker messagePacker;
+    private final NotificationDispatcher notificationDispatcher;
+    @Value("${notification.overdue-orders.page-size:500}")
+    private int pageSize;
+
+    @Scheduled(cron = "0 0 9 * * *")
+    public void remindOfNotDeliveringOrders() {
+        LocalDate today = LocalDate.now();
+        List<OverdueOrderDto> firstPage = findPage(today, 0L);
+        if (firstPage.isEmpty()) {
+            send("No overdue orders today.");
+            return;
+        }
+        Stream<String> lines = Stream.iterate(
+                        firstPage,
+                        page -> !page.isEmpty(),
+                        page -> page.size() < pageSize
+                                ? List.of()
+                                : findPage(today, page.get(page.size() - 1).id()))
+                .flatMap(List::stream)
+                .map(this::toLine);
+        messagePacker.pack(
+                Stream.concat(Stream.of(HEADER), lines),
+                MessagePacker.TELEGRAM_MESSAGE_LIMIT,
+                this::send);
+    }
+
+    private List<OverdueOrderDto> findPage(LocalDate today, Long after) {
+        return orderRepository.findOverdueAfter(
+                Order.Status.PAID, today, after, PageRequest.of(0, pageSize));
+    }
+
+    private String toLine(OverdueOrderDto order) {
+        return String.format(ORDER_LINE,
+                order.id(),
+                order.userId(),
+                order.orderDate(),
+                order.price(),
+                order.shippingAddress());
+    }
+
+    private void send(String text) {
+        notificationDispatcher.enqueue(new PendingNotification(NotificationChannel.TELEGRAM,
+                null, text));
+    }
+}
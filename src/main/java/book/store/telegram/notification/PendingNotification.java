@@ -0,0 +1,8 @@
+package book.store.telegram.notification;
+
+public record PendingNotification(
+        NotificationChannel channel,
+        Long chatId,
+        String text
+) {
+}
@@ -0,0 +1,57 @@
+package book.store.telegram.notification.transport;
+
+import book.store.exception.NotificationDeliveryException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends delivered texts to a file as JSON lines with chatId and text fields.
+ * Every line is flushed once written, so the file can be followed while the application runs.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.transport", havingValue = "file")
+public class FileNotificationTransport implements NotificationTransport {
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+
+    public FileNotificationTransport(
+            ObjectMapper objectMapper,
+            @Value("${notification.transport.file.path:notifications.ndjson}") Path path)
+            throws IOException {
+        this.objectMapper = objectMapper;
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void send(Long chatId, String text) {
+        try {
+            String line = objectMapper.writeValueAsString(
+                    Map.of("chatId", String.valueOf(chatId), "text", text));
+            synchronized (writer) {
+                writer.write(line);
+                writer.newLine();
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new NotificationDeliveryException("Can't write a notification to a file", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (writer) {
+            writer.close();
+        }
+    }
+}
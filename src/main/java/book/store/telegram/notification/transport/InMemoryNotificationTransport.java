@@ -0,0 +1,50 @@
+package book.store.telegram.notification.transport;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the latest delivered texts in memory instead of sending them anywhere,
+ * e.g. to measure write throughput with notifications enabled but without network access.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.transport", havingValue = "memory")
+public class InMemoryNotificationTransport implements NotificationTransport {
+    private final Deque<DeliveredNotification> notifications = new ArrayDeque<>();
+    private final LongAdder deliveredCount = new LongAdder();
+    private final int capacity;
+
+    public InMemoryNotificationTransport(
+            @Value("${notification.transport.memory.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void send(Long chatId, String text) {
+        deliveredCount.increment();
+        synchronized (notifications) {
+            if (notifications.size() == capacity) {
+                notifications.removeFirst();
+            }
+            notifications.addLast(new DeliveredNotification(chatId, text));
+        }
+    }
+
+    public List<DeliveredNotification> getNotifications() {
+        synchronized (notifications) {
+            return List.copyOf(notifications);
+        }
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    public record DeliveredNotification(Long chatId, String text) {
+    }
+}
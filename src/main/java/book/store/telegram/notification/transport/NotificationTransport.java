@@ -0,0 +1,12 @@
+package book.store.telegram.notification.transport;
+
+/**
+ * Delivers a text to a chat. Implementations are chosen by the notification.transport property:
+ * telegram (default), memory or file.
+ */
+public interface NotificationTransport {
+    /**
+     * @throws book.store.exception.NotificationDeliveryException if the text can't be delivered
+     */
+    void send(Long chatId, String text);
+}
@@ -0,0 +1,19 @@
+package book.store.telegram.notification.transport;
+
+import book.store.telegram.BookStoreTelegramBot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.transport", havingValue = "telegram",
+        matchIfMissing = true)
+public class TelegramNotificationTransport implements NotificationTransport {
+    private final BookStoreTelegramBot telegramBot;
+
+    @Override
+    public void send(Long chatId, String text) {
+        telegramBot.sendMessage(chatId, text);
+    }
+}
@@ -1,7 +1,11 @@
 package book.store.telegram.strategy.notification;
 
+import book.store.telegram.notification.NotificationChannel;
+
 public interface AdminNotificationService<T> {
     void sendMessage(Long chatId, T type);
 
-    boolean isApplicable(String notificationService, String messageType);
+    NotificationChannel getChannel();
+
+    NotificationEventType getEventType();
 }
@@ -1,22 +1,53 @@
 package book.store.telegram.strategy.notification;
 
+import book.store.telegram.notification.NotificationChannel;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
+/**
+ * Resolves a notification service by its channel and event type with two enum map lookups.
+ * The registry is built at startup and fails the boot if some channel misses a service
+ * for some event type, or has several for the same one.
+ */
 @Component
-@RequiredArgsConstructor
 public class AdminNotificationStrategy<T> {
-    private final List<AdminNotificationService<T>> notificationServices;
+    private final Map<NotificationChannel, Map<NotificationEventType, AdminNotificationService<?>>>
+            notificationServices = new EnumMap<>(NotificationChannel.class);
 
+    public AdminNotificationStrategy(List<AdminNotificationService<?>> notificationServices) {
+        for (AdminNotificationService<?> service : notificationServices) {
+            if (this.notificationServices
+                    .computeIfAbsent(service.getChannel(),
+                            channel -> new EnumMap<>(NotificationEventType.class))
+                    .put(service.getEventType(), service) != null) {
+                throw new IllegalStateException("Several notification services for "
+                        + service.getChannel() + " " + service.getEventType());
+            }
+        }
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            EnumSet<NotificationEventType> missing = EnumSet.allOf(NotificationEventType.class);
+            missing.removeAll(this.notificationServices.getOrDefault(channel, Map.of()).keySet());
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException(
+                        "Can't find " + channel + " notification services for " + missing);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
     public AdminNotificationService<T> getNotificationService(
-            String notificationService,
-            String messageType) {
-        return notificationServices
-                .stream()
-                .filter(service -> service.isApplicable(notificationService, messageType))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Can't find a notification service for " + messageType));
+            NotificationChannel channel,
+            NotificationEventType eventType) {
+        AdminNotificationService<?> service = notificationServices
+                .getOrDefault(channel, Map.of())
+                .get(eventType);
+        if (service == null) {
+            throw new IllegalArgumentException(
+                    "Can't find a " + channel + " notification service for " + eventType);
+        }
+        return (AdminNotificationService<T>) service;
     }
 }
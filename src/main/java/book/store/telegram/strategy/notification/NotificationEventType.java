@@ -0,0 +1,15 @@
+package book.store.telegram.strategy.notification;
+
+public enum NotificationEventType {
+    BOOK_CREATION,
+    BOOK_UPDATING,
+    BOOK_DELETING,
+    BOOK_IMPORT,
+    CATEGORY_CREATION,
+    CATEGORY_UPDATING,
+    CATEGORY_DELETING,
+    ORDER_STATUS_UPDATING,
+    SUCCESSFUL_PAYMENT,
+    ROLE_UPDATING,
+    USER_DELETING
+}
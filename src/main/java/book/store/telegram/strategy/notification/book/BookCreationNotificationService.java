@@ -3,7 +3,9 @@ package book.store.telegram.strategy.notification.book;
 import book.store.model.Book;
 import book.store.model.Category;
 import book.store.telegram.notification.AbstractNotificationSender;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationService;
+import book.store.telegram.strategy.notification.NotificationEventType;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
@@ -11,9 +13,6 @@ import org.springframework.stereotype.Service;
 public class BookCreationNotificationService
         extends AbstractNotificationSender
         implements AdminNotificationService<Book> {
-    private static final String BOOK_CREATION = "Book creation";
-    private static final String TELEGRAM = "Telegram";
-
     @Override
     public void sendMessage(Long chatId, Book book) {
         String message = """
@@ -35,12 +34,16 @@ public class BookCreationNotificationService
                 book.getDescription(),
                 book.getCoverImage(),
                 book.getCategories().stream().map(Category::getId).collect(Collectors.toList()));
-        sendMessage(TELEGRAM, chatId, message);
+        sendMessage(NotificationChannel.TELEGRAM, chatId, message);
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.TELEGRAM;
     }
 
     @Override
-    public boolean isApplicable(String notificationService, String messageType) {
-        return notificationService.equalsIgnoreCase(TELEGRAM)
-                && messageType.equalsIgnoreCase(BOOK_CREATION);
+    public NotificationEventType getEventType() {
+        return NotificationEventType.BOOK_CREATION;
     }
 }
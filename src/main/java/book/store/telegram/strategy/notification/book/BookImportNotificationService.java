@@ -0,0 +1,37 @@
+package book.store.telegram.strategy.notification.book;
+
+import book.store.dto.book.BookImportResultDto;
+import book.store.telegram.notification.AbstractNotificationSender;
+import book.store.telegram.notification.NotificationChannel;
+import book.store.telegram.strategy.notification.AdminNotificationService;
+import book.store.telegram.strategy.notification.NotificationEventType;
+import org.springframework.stereotype.Service;
+
+@Service
+public class BookImportNotificationService
+        extends AbstractNotificationSender
+        implements AdminNotificationService<BookImportResultDto> {
+    @Override
+    public void sendMessage(Long chatId, BookImportResultDto result) {
+        String message = """
+                Books are imported.
+
+                Imported: %s,
+                Rejected: %s.
+                """;
+        message = String.format(message,
+                result.imported(),
+                result.failed());
+        sendMessage(NotificationChannel.TELEGRAM, chatId, message);
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.TELEGRAM;
+    }
+
+    @Override
+    public NotificationEventType getEventType() {
+        return NotificationEventType.BOOK_IMPORT;
+    }
+}
@@ -2,25 +2,28 @@ package book.store.telegram.strategy.notification.category;
 
 import book.store.model.Category;
 import book.store.telegram.notification.AbstractNotificationSender;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationService;
+import book.store.telegram.strategy.notification.NotificationEventType;
 import org.springframework.stereotype.Service;
 
 @Service
 public class CategoryDeletingNotificationService
         extends AbstractNotificationSender
         implements AdminNotificationService<Category> {
-    private static final String TELEGRAM = "Telegram";
-    private static final String CATEGORY_DELETING = "Category deleting";
-
     @Override
     public void sendMessage(Long chatId, Category category) {
         String message = "Category with id " + category.getId() + " was deleted.";
-        sendMessage(TELEGRAM, chatId, message);
+        sendMessage(NotificationChannel.TELEGRAM, chatId, message);
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.TELEGRAM;
     }
 
     @Override
-    public boolean isApplicable(String notificationService, String messageType) {
-        return notificationService.equalsIgnoreCase(TELEGRAM)
-                && messageType.equalsIgnoreCase(CATEGORY_DELETING);
+    public NotificationEventType getEventType() {
+        return NotificationEventType.CATEGORY_DELETING;
     }
 }
@@ -2,16 +2,15 @@ package book.store.telegram.strategy.notification.category;
 
 import book.store.model.Category;
 import book.store.telegram.notification.AbstractNotificationSender;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationService;
+import book.store.telegram.strategy.notification.NotificationEventType;
 import org.springframework.stereotype.Service;
 
 @Service
 public class CategoryUpdatingNotificationService
         extends AbstractNotificationSender
         implements AdminNotificationService<Category> {
-    private static final String CATEGORY_UPDATING = "Category updating";
-    private static final String TELEGRAM = "Telegram";
-
     @Override
     public void sendMessage(Long chatId, Category category) {
         String message = """
@@ -27,12 +26,16 @@ public class CategoryUpdatingNotificationService
                 category.getId(),
                 category.getName(),
                 category.getDescription());
-        sendMessage(TELEGRAM, chatId, message);
+        sendMessage(NotificationChannel.TELEGRAM, chatId, message);
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.TELEGRAM;
     }
 
     @Override
-    public boolean isApplicable(String notificationService, String messageType) {
-        return notificationService.equalsIgnoreCase(TELEGRAM)
-                && messageType.equalsIgnoreCase(CATEGORY_UPDATING);
+    public NotificationEventType getEventType() {
+        return NotificationEventType.CATEGORY_UPDATING;
     }
 }
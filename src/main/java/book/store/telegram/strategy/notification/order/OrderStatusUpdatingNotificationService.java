@@ -2,16 +2,15 @@ package book.store.telegram.strategy.notification.order;
 
 import book.store.model.Order;
 import book.store.telegram.notification.AbstractNotificationSender;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationService;
+import book.store.telegram.strategy.notification.NotificationEventType;
 import org.springframework.stereotype.Service;
 
 @Service
 public class OrderStatusUpdatingNotificationService
         extends AbstractNotificationSender
         implements AdminNotificationService<Order> {
-    private static final String ORDER_STATUS_UPDATING = "Order status updating";
-    private static final String TELEGRAM = "Telegram";
-
     @Override
     public void sendMessage(Long chatId, Order order) {
         String message = "Order with id "
@@ -19,12 +18,16 @@ public class OrderStatusUpdatingNotificationService
                 + " has got updated status "
                 + order.getStatus().name()
                 + ".";
-        sendMessage(TELEGRAM, chatId, message);
+        sendMessage(NotificationChannel.TELEGRAM, chatId, message);
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.TELEGRAM;
     }
 
     @Override
-    public boolean isApplicable(String notificationService, String messageType) {
-        return notificationService.equalsIgnoreCase(TELEGRAM)
-                && messageType.equalsIgnoreCase(ORDER_STATUS_UPDATING);
+    public NotificationEventType getEventType() {
+        return NotificationEventType.ORDER_STATUS_UPDATING;
     }
 }
@@ -3,16 +3,15 @@ package book.store.telegram.strategy.notification.user;
 import book.store.model.Role;
 import book.store.model.User;
 import book.store.telegram.notification.AbstractNotificationSender;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationService;
+import book.store.telegram.strategy.notification.NotificationEventType;
 import org.springframework.stereotype.Service;
 
 @Service
 public class RoleUpdatingNotificationService
         extends AbstractNotificationSender
         implements AdminNotificationService<User> {
-    private static final String TELEGRAM = "Telegram";
-    private static final String ROLE_UPDATING = "Role updating";
-
     @Override
     public void sendMessage(Long chatId, User user) {
         String message = "User roles were updated to "
@@ -23,12 +22,16 @@ public class RoleUpdatingNotificationService
                 .toList()
                 + " , user id is "
                 + user.getId() + ".";
-        sendMessage(TELEGRAM, chatId, message);
+        sendMessage(NotificationChannel.TELEGRAM, chatId, message);
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.TELEGRAM;
     }
 
     @Override
-    public boolean isApplicable(String notificationService, String messageType) {
-        return notificationService.equalsIgnoreCase(TELEGRAM)
-                && messageType.equalsIgnoreCase(ROLE_UPDATING);
+    public NotificationEventType getEventType() {
+        return NotificationEventType.ROLE_UPDATING;
     }
 }
@@ -0,0 +1,97 @@
+package book.store.telegram.strategy.response;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps rendered admin responses about found entities for a short time, so repeated lookups
+ * of the same entity don't hit the db. Services drop the entries of the entities they change,
+ * writes made on other nodes are covered by the expiration.
+ * Responses about missing entities are not cached.
+ */
+@Component
+public class AdminResponseCache {
+    private final Cache<Key, String> responses;
+
+    public AdminResponseCache(
+            @Value("${telegram.admin.response-cache.ttl-ms:30000}") long ttlMillis,
+            @Value("${telegram.admin.response-cache.max-size:1000}") long maxSize) {
+        responses = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Returns the cached response or renders it, a null rendered response means
+     * the entity isn't found and is returned without caching.
+     */
+    public String get(EntityType type, Long id, Supplier<String> renderer) {
+        return responses.get(new Key(type, id), key -> renderer.get());
+    }
+
+    /**
+     * Drops the response about the entity after commit. Responses about books are all dropped
+     * together with a category one, since they list the names of their categories.
+     */
+    public void invalidate(EntityType type, Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            drop(type, id);
+                        }
+                    });
+        } else {
+            drop(type, id);
+        }
+    }
+
+    /**
+     * Drops responses about all entities of the type after commit,
+     * used by bulk updates that don't load the changed entities.
+     */
+    public void invalidateAll(EntityType type) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            dropAll(type);
+                        }
+                    });
+        } else {
+            dropAll(type);
+        }
+    }
+
+    private void drop(EntityType type, Long id) {
+        responses.invalidate(new Key(type, id));
+        if (type == EntityType.CATEGORY) {
+            responses.asMap().keySet().removeIf(key -> key.type() == EntityType.BOOK);
+        }
+    }
+
+    private void dropAll(EntityType type) {
+        responses.asMap().keySet().removeIf(key -> key.type() == type);
+    }
+
+    public enum EntityType {
+        BOOK,
+        CATEGORY,
+        ORDER,
+        ORDER_ITEM,
+        PAYMENT,
+        USER
+    }
+
+    private record Key(EntityType type, Long id) {
+    }
+}
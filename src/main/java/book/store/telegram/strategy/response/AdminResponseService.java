@@ -8,6 +8,13 @@ public interface AdminResponseService {
 
     boolean isApplicable(String text);
 
+    /**
+     * Returns the text this service responds to up to the colon, e.g. "/start"
+     * or "Get info about a book with id". Returns null for the service answering
+     * texts no other service is applicable to.
+     */
+    String getCommand();
+
     default Long getId(String text) {
         return Long.valueOf(
                 text.substring(
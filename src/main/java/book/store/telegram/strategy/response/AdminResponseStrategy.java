@@ -1,20 +1,50 @@
 package book.store.telegram.strategy.response;
 
+import java.util.HashMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Locale;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
+/**
+ * Routes a text to its response service by the command before the colon with one map lookup,
+ * then lets only that service check the whole text against its precompiled pattern.
+ */
 @Component
-@RequiredArgsConstructor
 public class AdminResponseStrategy {
-    private final List<AdminResponseService> responseServices;
+    private final Map<String, AdminResponseService> servicesByCommand = new HashMap<>();
+    private final AdminResponseService unknownCommandService;
+
+    public AdminResponseStrategy(List<AdminResponseService> responseServices) {
+        AdminResponseService fallback = null;
+        for (AdminResponseService service : responseServices) {
+            if (service.getCommand() == null) {
+                fallback = service;
+            } else if (servicesByCommand.put(toKey(service.getCommand()), service) != null) {
+                throw new IllegalStateException(
+                        "Several response services for command " + service.getCommand());
+            }
+        }
+        unknownCommandService = fallback;
+    }
 
     public AdminResponseService getResponseService(String text) {
-        return responseServices
-                .stream()
-                .filter(service -> service.isApplicable(text))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Can't get a response for text " + text));
+        AdminResponseService service = servicesByCommand.get(toKey(getCommand(text)));
+        if (service != null && service.isApplicable(text)) {
+            return service;
+        }
+        if (unknownCommandService == null) {
+            throw new IllegalArgumentException("Can't get a response for text " + text);
+        }
+        return unknownCommandService;
+    }
+
+    private String getCommand(String text) {
+        int colon = text.indexOf(AdminResponseService.COLON);
+        return colon < 0 ? text : text.substring(0, colon);
+    }
+
+    private String toKey(String command) {
+        return command.trim().toLowerCase(Locale.ROOT);
     }
 }
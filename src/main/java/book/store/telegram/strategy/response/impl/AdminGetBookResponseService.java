@@ -3,8 +3,10 @@ package book.store.telegram.strategy.response.impl;
 import book.store.model.Book;
 import book.store.model.Category;
 import book.store.repository.BookRepository;
+import book.store.telegram.strategy.response.AdminResponseCache;
 import book.store.telegram.strategy.response.AdminResponseService;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,17 +14,34 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class AdminGetBookResponseService implements AdminResponseService {
-    private static final String BOOK_REGEX =
-            "^(?i)Get info about a book with id:\\s*\\d+$";
+    private static final String BOOK_COMMAND = "Get info about a book with id";
+    private static final Pattern BOOK_PATTERN =
+            Pattern.compile("^(?i)Get info about a book with id:\\s*\\d+$");
     private final BookRepository bookRepository;
+    private final AdminResponseCache responseCache;
 
     @Override
     public String getMessage(String text) {
         Long id = getId(text);
+        String message = responseCache.get(AdminResponseCache.EntityType.BOOK, id,
+                () -> render(id));
+        return message == null ? "There is no book by id " + id : message;
+    }
+
+    @Override
+    public boolean isApplicable(String text) {
+        return BOOK_PATTERN.matcher(text).matches();
+    }
+
+    @Override
+    public String getCommand() {
+        return BOOK_COMMAND;
+    }
+
+    private String render(Long id) {
         Optional<Book> bookOptional = bookRepository.findById(id);
         if (bookOptional.isEmpty()) {
-            return "There is no book by id " + id;
-
+            return null;
         }
         Book book = bookOptional.get();
         String message = """
@@ -47,9 +66,4 @@ public class AdminGetBookResponseService implements AdminResponseService {
                 book.getCoverImage(),
                 book.getCategories().stream().map(Category::getName).collect(Collectors.toList()));
     }
-
-    @Override
-    public boolean isApplicable(String text) {
-        return text.matches(BOOK_REGEX);
-    }
 }
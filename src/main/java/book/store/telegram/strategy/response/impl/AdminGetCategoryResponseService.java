@@ -2,24 +2,44 @@ package book.store.telegram.strategy.response.impl;
 
 import book.store.model.Category;
 import book.store.repository.CategoryRepository;
+import book.store.telegram.strategy.response.AdminResponseCache;
 import book.store.telegram.strategy.response.AdminResponseService;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class AdminGetCategoryResponseService implements AdminResponseService {
-    private static final String CATEGORY_REGEX =
-            "^(?i)Get info about a category with id:\\s*\\d+$";
+    private static final String CATEGORY_COMMAND = "Get info about a category with id";
+    private static final Pattern CATEGORY_PATTERN =
+            Pattern.compile("^(?i)Get info about a category with id:\\s*\\d+$");
     private final CategoryRepository categoryRepository;
+    private final AdminResponseCache responseCache;
 
     @Override
     public String getMessage(String text) {
         Long id = getId(text);
+        String message = responseCache.get(AdminResponseCache.EntityType.CATEGORY, id,
+                () -> render(id));
+        return message == null ? "There is no category by id " + id : message;
+    }
+
+    @Override
+    public boolean isApplicable(String text) {
+        return CATEGORY_PATTERN.matcher(text).matches();
+    }
+
+    @Override
+    public String getCommand() {
+        return CATEGORY_COMMAND;
+    }
+
+    private String render(Long id) {
         Optional<Category> categoryOptional = categoryRepository.findById(id);
         if (categoryOptional.isEmpty()) {
-            return "There is no category by id " + id;
+            return null;
         }
         Category category = categoryOptional.get();
         String message = """               
@@ -37,9 +57,4 @@ public class AdminGetCategoryResponseService implements AdminResponseService {
                 category.getName(),
                 category.getDescription());
     }
-
-    @Override
-    public boolean isApplicable(String text) {
-        return text.matches(CATEGORY_REGEX);
-    }
 }
@@ -2,24 +2,44 @@ package book.store.telegram.strategy.response.impl;
 
 import book.store.model.OrderItem;
 import book.store.repository.OrderItemRepository;
+import book.store.telegram.strategy.response.AdminResponseCache;
 import book.store.telegram.strategy.response.AdminResponseService;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class AdminGetOrderItemResponseService implements AdminResponseService {
-    private static final String ORDER_ITEM_REGEX =
-            "^(?i)Get info about an order item with id:\\s*\\d+$";
+    private static final String ORDER_ITEM_COMMAND = "Get info about an order item with id";
+    private static final Pattern ORDER_ITEM_PATTERN =
+            Pattern.compile("^(?i)Get info about an order item with id:\\s*\\d+$");
     private final OrderItemRepository orderItemRepository;
+    private final AdminResponseCache responseCache;
 
     @Override
     public String getMessage(String text) {
         Long id = getId(text);
+        String message = responseCache.get(AdminResponseCache.EntityType.ORDER_ITEM, id,
+                () -> render(id));
+        return message == null ? "There is no an order item by id " + id : message;
+    }
+
+    @Override
+    public boolean isApplicable(String text) {
+        return ORDER_ITEM_PATTERN.matcher(text).matches();
+    }
+
+    @Override
+    public String getCommand() {
+        return ORDER_ITEM_COMMAND;
+    }
+
+    private String render(Long id) {
         Optional<OrderItem> orderItemOptional = orderItemRepository.findById(id);
         if (orderItemOptional.isEmpty()) {
-            return "There is no an order item by id " + id;
+            return null;
         }
         OrderItem orderItem = orderItemOptional.get();
         String message = """
@@ -41,9 +61,4 @@ public class AdminGetOrderItemResponseService implements AdminResponseService {
                 orderItem.getPrice()
         );
     }
-
-    @Override
-    public boolean isApplicable(String text) {
-        return text.matches(ORDER_ITEM_REGEX);
-    }
 }
@@ -3,9 +3,11 @@ package book.store.telegram.strategy.response.impl;
 import book.store.model.Order;
 import book.store.model.OrderItem;
 import book.store.repository.OrderRepository;
+import book.store.telegram.strategy.response.AdminResponseCache;
 import book.store.telegram.strategy.response.AdminResponseService;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,16 +15,34 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 @Service
 public class AdminGetOrderResponseService implements AdminResponseService {
-    private static final String ORDER_REGEX =
-            "^(?i)Get info about an order with id:\\s*\\d+$";
+    private static final String ORDER_COMMAND = "Get info about an order with id";
+    private static final Pattern ORDER_PATTERN =
+            Pattern.compile("^(?i)Get info about an order with id:\\s*\\d+$");
     private final OrderRepository orderRepository;
+    private final AdminResponseCache responseCache;
 
     @Override
     public String getMessage(String text) {
         Long id = getId(text);
+        String message = responseCache.get(AdminResponseCache.EntityType.ORDER, id,
+                () -> render(id));
+        return message == null ? "There is no an order by id " + id : message;
+    }
+
+    @Override
+    public boolean isApplicable(String text) {
+        return ORDER_PATTERN.matcher(text).matches();
+    }
+
+    @Override
+    public String getCommand() {
+        return ORDER_COMMAND;
+    }
+
+    private String render(Long id) {
         Optional<Order> orderOptional = orderRepository.findByIdWithOrderItems(id);
         if (orderOptional.isEmpty()) {
-            return "There is no an order by id " + id;
+            return null;
         }
         Order order = orderOptional.get();
         String message = """
@@ -59,9 +79,4 @@ public class AdminGetOrderResponseService implements AdminResponseService {
                 orderItemIds
         );
     }
-
-    @Override
-    public boolean isApplicable(String text) {
-        return text.matches(ORDER_REGEX);
-    }
 }
@@ -2,24 +2,44 @@ package book.store.telegram.strategy.response.impl;
 
 import book.store.model.Payment;
 import book.store.repository.PaymentRepository;
+import book.store.telegram.strategy.response.AdminResponseCache;
 import book.store.telegram.strategy.response.AdminResponseService;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class AdminGetPaymentResponseService implements AdminResponseService {
-    private static final String PAYMENT_REGEX =
-            "^(?i)Get info about a payment with id:\\s*\\d+$";
+    private static final String PAYMENT_COMMAND = "Get info about a payment with id";
+    private static final Pattern PAYMENT_PATTERN =
+            Pattern.compile("^(?i)Get info about a payment with id:\\s*\\d+$");
     private final PaymentRepository paymentRepository;
+    private final AdminResponseCache responseCache;
 
     @Override
     public String getMessage(String text) {
         Long id = getId(text);
+        String message = responseCache.get(AdminResponseCache.EntityType.PAYMENT, id,
+                () -> render(id));
+        return message == null ? "There is no payment by id " + id : message;
+    }
+
+    @Override
+    public boolean isApplicable(String text) {
+        return PAYMENT_PATTERN.matcher(text).matches();
+    }
+
+    @Override
+    public String getCommand() {
+        return PAYMENT_COMMAND;
+    }
+
+    private String render(Long id) {
         Optional<Payment> paymentOptional = paymentRepository.findById(id);
         if (paymentOptional.isEmpty()) {
-            return "There is no payment by id " + id;
+            return null;
         }
         Payment payment = paymentOptional.get();
         String message = """
@@ -42,9 +62,4 @@ public class AdminGetPaymentResponseService implements AdminResponseService {
                 payment.getAmountToPay()
         );
     }
-
-    @Override
-    public boolean isApplicable(String text) {
-        return text.matches(PAYMENT_REGEX);
-    }
 }
@@ -3,9 +3,11 @@ package book.store.telegram.strategy.response.impl;
 import book.store.model.Role;
 import book.store.model.User;
 import book.store.repository.UserRepository;
+import book.store.telegram.strategy.response.AdminResponseCache;
 import book.store.telegram.strategy.response.AdminResponseService;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,16 +15,34 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class AdminGetUserResponseService implements AdminResponseService {
-    private static final String USER_REGEX =
-            "^(?i)Get info about a user with id:\\s*\\d+$";
+    private static final String USER_COMMAND = "Get info about a user with id";
+    private static final Pattern USER_PATTERN =
+            Pattern.compile("^(?i)Get info about a user with id:\\s*\\d+$");
     private final UserRepository userRepository;
+    private final AdminResponseCache responseCache;
 
     @Override
     public String getMessage(String text) {
         Long userId = getId(text);
+        String message = responseCache.get(AdminResponseCache.EntityType.USER, userId,
+                () -> render(userId));
+        return message == null ? String.format("There is no user by id %s.", userId) : message;
+    }
+
+    @Override
+    public boolean isApplicable(String text) {
+        return USER_PATTERN.matcher(text).matches();
+    }
+
+    @Override
+    public String getCommand() {
+        return USER_COMMAND;
+    }
+
+    private String render(Long userId) {
         Optional<User> user = userRepository.findById(userId);
         if (user.isEmpty()) {
-            return String.format("There is no user by id %s.", userId);
+            return null;
         }
         String message = """
                     ***
@@ -45,9 +65,4 @@ public class AdminGetUserResponseService implements AdminResponseService {
                 user.get().getEmail(),
                 roles);
     }
-
-    @Override
-    public boolean isApplicable(String text) {
-        return text.matches(USER_REGEX);
-    }
 }
@@ -41,4 +41,9 @@ public class HelpCommandResponseService implements AdminResponseService {
     public boolean isApplicable(String text) {
         return text.equalsIgnoreCase(HELP);
     }
+
+    @Override
+    public String getCommand() {
+        return HELP;
+    }
 }
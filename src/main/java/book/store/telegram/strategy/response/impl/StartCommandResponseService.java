@@ -26,4 +26,9 @@ public class StartCommandResponseService
     public boolean isApplicable(String text) {
         return text.equalsIgnoreCase(START);
     }
+
+    @Override
+    public String getCommand() {
+        return START;
+    }
 }
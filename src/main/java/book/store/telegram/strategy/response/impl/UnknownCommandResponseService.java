@@ -5,11 +5,6 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class UnknownCommandResponseService implements AdminResponseService {
-    private static final String USER_REGEX =
-            "^(?i)Get info about a user with id:\\s*\\d+$";
-    private static final String START = "/start";
-    private static final String HELP = "/help";
-
     @Override
     public String getMessage(String text) {
         return String.format("Unknown command: '%s'"
@@ -19,8 +14,11 @@ public class UnknownCommandResponseService implements AdminResponseService {
 
     @Override
     public boolean isApplicable(String text) {
-        return !text.equalsIgnoreCase(START)
-                && !text.equalsIgnoreCase(HELP)
-                && !text.matches(USER_REGEX);
+        return true;
+    }
+
+    @Override
+    public String getCommand() {
+        return null;
     }
 }
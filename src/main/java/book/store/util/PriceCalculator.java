@@ -0,0 +1,24 @@
+package book.store.util;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calculates money amounts with exact BigDecimal arithmetic.
+ */
+@Component
+public class PriceCalculator {
+    public BigDecimal getLinePrice(BigDecimal unitPrice, long quantity) {
+        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+
+    public <T> BigDecimal getTotalPrice(Collection<T> items, Function<T, BigDecimal> price) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (T item : items) {
+            total = total.add(price.apply(item));
+        }
+        return total;
+    }
+}
@@ -3,10 +3,13 @@ package book.store.util;
 import com.stripe.exception.StripeException;
 import com.stripe.model.checkout.Session;
 import com.stripe.param.checkout.SessionCreateParams;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
 @Component
 public class StripeUtil {
+    private static final String CREATE_SESSION_TIMER = "book.store.stripe.create.session";
     private static final String USD = "usd";
     // Port 8088 is used for local port pointed in .env file.
     // You should change it to the port you are going to use.
@@ -14,6 +17,11 @@ public class StripeUtil {
     private static final String CANCEL_URL = "http://localhost:8088/api/payments/cancel";
     private static final byte DEFAULT_QUANTITY = 1;
     private static final byte MULTIPLIER = 100;
+    private final Timer createSessionTimer;
+
+    public StripeUtil(MeterRegistry meterRegistry) {
+        createSessionTimer = meterRegistry.timer(CREATE_SESSION_TIMER);
+    }
 
     public Session createSession(
             Long price,
@@ -38,6 +46,11 @@ public class StripeUtil {
                 )
                 .setMode(SessionCreateParams.Mode.PAYMENT)
                 .build();
-        return Session.create(params);
+        Timer.Sample sample = Timer.start();
+        try {
+            return Session.create(params);
+        } finally {
+            sample.stop(createSessionTimer);
+        }
     }
 }
@@ -0,0 +1,112 @@
+package book.store.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import book.store.metrics.QueryCountInspector;
+import book.store.security.JwtClaimsRevocationService;
+import book.store.security.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@WebMvcTest(controllers = SecurityConfigTest.ActuatorStubController.class)
+@Import({SecurityConfig.class, SecurityConfigTest.ActuatorStubController.class,
+        SecurityConfigTest.MeterRegistryConfig.class})
+@TestPropertySource(properties = "management.prometheus.scraper-addresses=10.0.0.0/8")
+class SecurityConfigTest {
+    private static final String PROMETHEUS = "/actuator/prometheus";
+    private static final String METRICS = "/actuator/metrics";
+    private static final String HEALTH = "/actuator/health";
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private UserDetailsService userDetailsService;
+    @MockBean
+    private JwtUtil jwtUtil;
+    @MockBean
+    private JwtClaimsRevocationService revocationService;
+    @MockBean
+    private QueryCountInspector queryCountInspector;
+
+    @Test
+    @DisplayName("Verify that an anonymous scraper from an allowed address reads prometheus")
+    void prometheus_AnonymousFromScraperAddress_ReturnsOk() throws Exception {
+        mockMvc.perform(get(PROMETHEUS).with(remoteAddress("10.1.2.3")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Verify that an anonymous request from another address is rejected")
+    void prometheus_AnonymousFromOtherAddress_ReturnsUnauthorized() throws Exception {
+        mockMvc.perform(get(PROMETHEUS).with(remoteAddress("192.168.1.10")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("Verify that a user from another address can't read prometheus")
+    void prometheus_UserFromOtherAddress_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get(PROMETHEUS).with(remoteAddress("192.168.1.10")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Verify that an admin reads prometheus from any address")
+    void prometheus_AdminFromOtherAddress_ReturnsOk() throws Exception {
+        mockMvc.perform(get(PROMETHEUS).with(remoteAddress("192.168.1.10")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Verify that the scraper address doesn't open other actuator endpoints")
+    void metrics_AnonymousFromScraperAddress_ReturnsUnauthorized() throws Exception {
+        mockMvc.perform(get(METRICS).with(remoteAddress("10.1.2.3")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Verify that health stays public")
+    void health_Anonymous_ReturnsOk() throws Exception {
+        mockMvc.perform(get(HEALTH).with(remoteAddress("192.168.1.10")))
+                .andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    @RestController
+    static class ActuatorStubController {
+        @GetMapping({PROMETHEUS, METRICS, HEALTH})
+        String actuator() {
+            return "ok";
+        }
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
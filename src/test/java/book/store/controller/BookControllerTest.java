@@ -1,11 +1,16 @@
 package book.store.controller;
 
 import static book.store.holder.LinksHolder.DELETE_ALL_BOOKS_FILE_PATH;
+import static book.store.holder.LinksHolder.DELETE_ALL_BOOK_CATEGORIES_FILE_PATH;
 import static book.store.holder.LinksHolder.DELETE_ALL_CATEGORIES_FILE_PATH;
 import static book.store.holder.LinksHolder.INSERT_BOOKS_FILE_PATH;
+import static book.store.holder.LinksHolder.INSERT_BOOK_CATEGORIES_FILE_PATH;
 import static book.store.holder.LinksHolder.INSERT_CATEGORY_FILE_PATH;
+import static book.store.holder.LinksHolder.INSERT_FIVE_CATEGORIES_FILE_PATH;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -15,20 +20,31 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import book.store.dto.book.BookCreateRequestDto;
+import book.store.dto.book.BookFacetedSearchResultDto;
+import book.store.dto.book.BookImportErrorDto;
+import book.store.dto.book.BookImportResultDto;
 import book.store.dto.book.BookResponseDto;
 import book.store.dto.book.BookSearchParametersDto;
 import book.store.dto.book.BookUpdateDto;
+import book.store.dto.book.PriceBucketDto;
+import book.store.dto.cursor.CursorPageDto;
 import book.store.model.Book;
 import book.store.model.Role;
 import book.store.model.User;
+import book.store.service.book.bulk.BookImportService;
+import book.store.telegram.notification.NotificationChannel;
+import book.store.telegram.strategy.notification.AdminNotificationService;
 import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
 import book.store.telegram.strategy.notification.book.BookCreationNotificationService;
 import book.store.telegram.strategy.notification.book.BookDeletingNotificationService;
 import book.store.telegram.strategy.notification.book.BookUpdatingNotificationService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -120,6 +136,57 @@ class BookControllerTest {
         assertEquals(0, actual.length);
     }
 
+    @Sql(scripts =
+            {
+                    DELETE_ALL_BOOKS_FILE_PATH, INSERT_BOOKS_FILE_PATH
+            },
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD
+    )
+    @Sql(scripts =
+            {
+                    DELETE_ALL_BOOKS_FILE_PATH
+            },
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("""
+            Verify that getAllAfter() method returns books after the cursor
+            """)
+    @Test
+    public void getAllAfter_ValidCursor_ReturnsNextBooks() throws Exception {
+        MvcResult result = mockMvc.perform(get("/books/cursor")
+                        .param("after", "2")
+                        .param("size", "2")
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        CursorPageDto<BookResponseDto> actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(),
+                new TypeReference<CursorPageDto<BookResponseDto>>() {}
+        );
+
+        assertEquals(List.of(3L, 4L), actual.content()
+                .stream()
+                .map(BookResponseDto::getId)
+                .toList());
+        assertEquals(4L, actual.nextCursor());
+        assertTrue(actual.hasNext());
+    }
+
+    @DisplayName("""
+            Verify that getAllAfter() method rejects a page size out of bounds
+            """)
+    @Test
+    public void getAllAfter_SizeOutOfBounds_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/books/cursor")
+                        .param("size", "0")
+                )
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/books/cursor")
+                        .param("size", "101")
+                )
+                .andExpect(status().isBadRequest());
+    }
+
     @Sql(scripts =
             {
                     DELETE_ALL_BOOKS_FILE_PATH, INSERT_BOOKS_FILE_PATH
@@ -259,6 +326,90 @@ class BookControllerTest {
         assertEquals(expected, actual[0]);
     }
 
+    @DisplayName("""
+            Verify that search() method rejects a sort by an unknown property
+            """)
+    @Test
+    public void search_UnknownSortProperty_ReturnsBadRequest() throws Exception {
+        BookSearchParametersDto parametersDto = new BookSearchParametersDto(
+                "bird", null, null, null, new HashSet<>());
+
+        mockMvc.perform(get("/books/search")
+                        .param("sort", "publisher")
+                        .content(objectMapper.writeValueAsString(parametersDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Sql(scripts =
+            {
+                    DELETE_ALL_BOOK_CATEGORIES_FILE_PATH,
+                    DELETE_ALL_BOOKS_FILE_PATH,
+                    DELETE_ALL_CATEGORIES_FILE_PATH,
+                    INSERT_FIVE_CATEGORIES_FILE_PATH,
+                    INSERT_BOOKS_FILE_PATH,
+                    INSERT_BOOK_CATEGORIES_FILE_PATH
+            },
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD
+    )
+    @Sql(scripts =
+            {
+                    DELETE_ALL_BOOK_CATEGORIES_FILE_PATH,
+                    DELETE_ALL_BOOKS_FILE_PATH,
+                    DELETE_ALL_CATEGORIES_FILE_PATH
+            },
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("""
+            Verify that searchFaceted() method counts requested facets over all matching books
+            """)
+    @Test
+    public void searchFaceted_FilteredSearch_CountsAllMatchingBooks() throws Exception {
+        BookSearchParametersDto parametersDto = new BookSearchParametersDto(
+                null,
+                null,
+                "novel",
+                List.of(BigDecimal.valueOf(9L), BigDecimal.valueOf(12L)),
+                new HashSet<>()
+        );
+        String content = objectMapper.writeValueAsString(parametersDto);
+
+        MvcResult result = mockMvc.perform(get("/books/search/faceted")
+                        .param("facets", "CATEGORIES,PRICE")
+                        .param("size", "2")
+                        .param("sort", "id")
+                        .content(content)
+                        .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+        BookFacetedSearchResultDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), BookFacetedSearchResultDto.class);
+
+        assertEquals(List.of(1L, 4L), actual.books()
+                .stream()
+                .map(BookResponseDto::getId)
+                .toList());
+        assertEquals(Map.of(1L, 2L, 3L, 1L), actual.categoriesCounts());
+        assertEquals(List.of(1L, 2L, 0L, 0L, 0L), actual.priceBuckets()
+                .stream()
+                .map(PriceBucketDto::count)
+                .toList());
+
+        result = mockMvc.perform(get("/books/search/faceted")
+                        .content(content)
+                        .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+        actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), BookFacetedSearchResultDto.class);
+
+        assertEquals(3, actual.books().size());
+        assertNull(actual.categoriesCounts());
+        assertNull(actual.priceBuckets());
+    }
+
     @Sql(scripts =
             {
                     DELETE_ALL_BOOKS_FILE_PATH,
@@ -295,7 +446,7 @@ class BookControllerTest {
         user.setRoles(Set.of(new Role(2L)));
 
         when(notificationStrategy.getNotificationService(
-                anyString(), anyString())
+                any(NotificationChannel.class), any(NotificationEventType.class))
         )
                 .thenReturn(mock(BookCreationNotificationService.class));
 
@@ -340,6 +491,98 @@ class BookControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Sql(scripts =
+            {
+                    DELETE_ALL_BOOKS_FILE_PATH,
+                    DELETE_ALL_CATEGORIES_FILE_PATH,
+                    INSERT_CATEGORY_FILE_PATH
+            },
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD
+    )
+    @Sql(scripts =
+            {
+                    DELETE_ALL_BOOKS_FILE_PATH,
+                    DELETE_ALL_CATEGORIES_FILE_PATH
+            },
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("""
+            Verify that importBooks() endpoint imports valid CSV rows and reports rejected ones
+            """)
+    @Test
+    @WithMockUser(username = "admin@example.com", authorities = {"ROLE_ADMIN"})
+    @SuppressWarnings("unchecked")
+    public void importBooks_CsvWithInvalidRow_ImportsValidRows() throws Exception {
+        String content = """
+                title,author,isbn,price,description,categoriesIds
+                To Kill a Mockingbird,Harper Lee,9780061120084,10.99,"A classic, in the South",1
+                The Great Gatsby,F. Scott Fitzgerald,9780743273565,12.49,,2
+                Pride and Prejudice,Jane Austen,9780141439518,8.99,,1
+                """;
+
+        when(notificationStrategy.getNotificationService(
+                any(NotificationChannel.class), any(NotificationEventType.class))
+        )
+                .thenReturn(mock(AdminNotificationService.class));
+
+        MvcResult result = mockMvc.perform(post("/books/bulk")
+                        .content(content)
+                        .contentType(BookImportService.TEXT_CSV)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        BookImportResultDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), BookImportResultDto.class
+        );
+
+        BookImportResultDto expected = new BookImportResultDto(2, 1,
+                List.of(new BookImportErrorDto(3, "Can't find categories by ids [2]")));
+        assertEquals(expected, actual);
+    }
+
+    @Sql(scripts =
+            {
+                    DELETE_ALL_BOOKS_FILE_PATH,
+                    DELETE_ALL_CATEGORIES_FILE_PATH,
+                    INSERT_CATEGORY_FILE_PATH
+            },
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD
+    )
+    @Sql(scripts =
+            {
+                    DELETE_ALL_BOOKS_FILE_PATH,
+                    DELETE_ALL_CATEGORIES_FILE_PATH
+            },
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("""
+            Verify that create() endpoint reports all missing categories at once
+            """)
+    @Test
+    @WithMockUser(username = "admin@example.com", authorities = {"ROLE_ADMIN"})
+    public void create_MissingCategories_NotFound() throws Exception {
+        BookCreateRequestDto requestDto = new BookCreateRequestDto(
+                "To Kill a Mockingbird",
+                "Harper Lee",
+                "9780061120084",
+                BigDecimal.valueOf(10.99),
+                "A classic novel set in the American South during the 1930s.",
+                "to_kill_a_mockingbird.jpg",
+                Set.of(1L, 2L, 3L)
+        );
+
+        String content = objectMapper.writeValueAsString(requestDto);
+
+        MvcResult result = mockMvc.perform(post("/books")
+                        .content(content)
+                        .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isNotFound())
+                .andReturn();
+
+        assertTrue(result.getResponse().getContentAsString()
+                .contains("Can't find categories by ids [2, 3]"));
+    }
+
     @Sql(scripts =
             {
                     DELETE_ALL_BOOKS_FILE_PATH,
@@ -376,7 +619,7 @@ class BookControllerTest {
         String content = objectMapper.writeValueAsString(updateDto);
 
         when(notificationStrategy.getNotificationService(
-                anyString(), anyString())
+                any(NotificationChannel.class), any(NotificationEventType.class))
         )
                 .thenReturn(mock(BookUpdatingNotificationService.class));
 
@@ -417,7 +660,7 @@ class BookControllerTest {
         Long id = 1L;
 
         when(notificationStrategy.getNotificationService(
-                anyString(), anyString())
+                any(NotificationChannel.class), any(NotificationEventType.class))
         )
                 .thenReturn(mock(BookDeletingNotificationService.class));
         // deleting a book
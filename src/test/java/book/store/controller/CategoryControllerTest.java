@@ -4,7 +4,7 @@ import static book.store.holder.LinksHolder.DELETE_ALL_CATEGORIES_FILE_PATH;
 import static book.store.holder.LinksHolder.INSERT_CATEGORY_FILE_PATH;
 import static book.store.holder.LinksHolder.INSERT_FIVE_CATEGORIES_FILE_PATH;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -17,7 +17,9 @@ import book.store.dto.category.CategoryResponseDto;
 import book.store.dto.category.CategoryUpdateDto;
 import book.store.dto.category.CreateCategoryRequestDto;
 import book.store.model.Category;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
 import book.store.telegram.strategy.notification.category.CategoryCreationNotificationService;
 import book.store.telegram.strategy.notification.category.CategoryDeletingNotificationService;
 import book.store.telegram.strategy.notification.category.CategoryUpdatingNotificationService;
@@ -172,7 +174,8 @@ class CategoryControllerTest {
 
         String content = objectMapper.writeValueAsString(requestDto);
 
-        when(notificationStrategy.getNotificationService(anyString(), anyString()))
+        when(notificationStrategy.getNotificationService(
+                any(NotificationChannel.class), any(NotificationEventType.class)))
                 .thenReturn(mock(CategoryCreationNotificationService.class));
         MvcResult result = mockMvc.perform(
                         post("/categories")
@@ -266,7 +269,8 @@ class CategoryControllerTest {
 
         String content = objectMapper.writeValueAsString(updateDto);
 
-        when(notificationStrategy.getNotificationService(anyString(), anyString()))
+        when(notificationStrategy.getNotificationService(
+                any(NotificationChannel.class), any(NotificationEventType.class)))
                 .thenReturn(mock(CategoryUpdatingNotificationService.class));
 
         MvcResult result = mockMvc.perform(
@@ -305,7 +309,8 @@ class CategoryControllerTest {
     @Test
     @WithMockUser(username = EMAIL, authorities = ADMIN)
     public void deleteById_ValidRequest_Success() throws Exception {
-        when(notificationStrategy.getNotificationService(anyString(), anyString()))
+        when(notificationStrategy.getNotificationService(
+                any(NotificationChannel.class), any(NotificationEventType.class)))
                 .thenReturn(mock(CategoryDeletingNotificationService.class));
 
         Long id = 1L;
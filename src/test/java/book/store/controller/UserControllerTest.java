@@ -8,7 +8,6 @@ import static book.store.holder.LinksHolder.INSERT_USER_TO_USER_ROLES_FILE_PATH;
 import static com.github.dockerjava.zerodep.shaded.org.apache.hc.core5.http.HttpHeaders.AUTHORIZATION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -23,7 +22,9 @@ import book.store.dto.user.UserSearchParametersDto;
 import book.store.dto.user.UserUpdateRequestDto;
 import book.store.model.User;
 import book.store.security.JwtUtil;
+import book.store.telegram.notification.NotificationChannel;
 import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
 import book.store.telegram.strategy.notification.user.RoleUpdatingNotificationService;
 import book.store.telegram.strategy.notification.user.UserDeletingNotificationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -294,7 +295,8 @@ class UserControllerTest {
     public void delete_ValidRequest_Success() throws Exception {
         Long id = 1L;
 
-        when(notificationStrategy.getNotificationService(anyString(), anyString()))
+        when(notificationStrategy.getNotificationService(
+                any(NotificationChannel.class), any(NotificationEventType.class)))
                 .thenReturn(mock(UserDeletingNotificationService.class));
 
         // deleting a user
@@ -425,7 +427,8 @@ class UserControllerTest {
 
         Long id = 1L;
 
-        when(notificationStrategy.getNotificationService(any(), anyString()))
+        when(notificationStrategy.getNotificationService(
+                any(NotificationChannel.class), any(NotificationEventType.class)))
                 .thenReturn(mock(RoleUpdatingNotificationService.class));
 
         MvcResult result = mockMvc.perform(
@@ -469,7 +472,8 @@ class UserControllerTest {
 
         Long id = 1L;
 
-        when(notificationStrategy.getNotificationService(any(), anyString()))
+        when(notificationStrategy.getNotificationService(
+                any(NotificationChannel.class), any(NotificationEventType.class)))
                 .thenReturn(mock(RoleUpdatingNotificationService.class));
 
         MvcResult result = mockMvc.perform(
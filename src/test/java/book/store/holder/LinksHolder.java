@@ -15,4 +15,7 @@ public interface LinksHolder {
             "classpath:database/insert-admin-to-user_roles.sql";
     String INSERT_FIVE_CATEGORIES_FILE_PATH =
             "classpath:database/insert-five-categories.sql";
+    String INSERT_BOOK_CATEGORIES_FILE_PATH = "classpath:database/insert-book-categories.sql";
+    String DELETE_ALL_BOOK_CATEGORIES_FILE_PATH =
+            "classpath:database/delete-all-book-categories.sql";
 }
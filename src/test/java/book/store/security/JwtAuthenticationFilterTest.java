@@ -0,0 +1,99 @@
+package book.store.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import book.store.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtAuthenticationFilterTest {
+    private static final String TOKEN = "token";
+    private static final String EMAIL = "user@example.com";
+    private static final Long USER_ID = 7L;
+    private static final int TOKEN_VERSION = 3;
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final JwtClaimsRevocationService revocationService =
+            mock(JwtClaimsRevocationService.class);
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, revocationService);
+        ReflectionTestUtils.setField(filter, "stateless", true);
+        when(jwtUtil.getValidClaims(TOKEN)).thenReturn(claims());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Verify that a stateless principal is built from the claims of a valid token")
+    void doFilter_StatelessValidVersion_BuildsPrincipalFromClaims() throws Exception {
+        when(revocationService.isRevoked(USER_ID, TOKEN_VERSION)).thenReturn(false);
+
+        filter.doFilter(authorizedRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User principal = assertInstanceOf(User.class, authentication.getPrincipal());
+        assertEquals(USER_ID, principal.getId());
+        assertEquals(EMAIL, principal.getUsername());
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), authentication.getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet()));
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("Verify that the user is loaded from the database when the version is stale")
+    void doFilter_StatelessRevokedVersion_LoadsUser() throws Exception {
+        User storedUser = new User(USER_ID);
+        storedUser.setEmail(EMAIL);
+        when(revocationService.isRevoked(USER_ID, TOKEN_VERSION)).thenReturn(true);
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(storedUser);
+
+        filter.doFilter(authorizedRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertSame(storedUser,
+                SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    }
+
+    private MockHttpServletRequest authorizedRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        return request;
+    }
+
+    private Claims claims() {
+        Claims claims = Jwts.claims().setSubject(EMAIL);
+        claims.put(JwtUtil.ID_CLAIM, USER_ID);
+        claims.put(JwtUtil.ROLES_CLAIM, List.of("ROLE_USER", "ROLE_ADMIN"));
+        claims.put(JwtUtil.VERSION_CLAIM, TOKEN_VERSION);
+        return claims;
+    }
+}
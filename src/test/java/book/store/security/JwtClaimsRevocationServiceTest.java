@@ -0,0 +1,78 @@
+package book.store.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import book.store.repository.UserRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class JwtClaimsRevocationServiceTest {
+    private static final Long USER_ID = 7L;
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JwtClaimsRevocationService revocationService =
+            new JwtClaimsRevocationService(userRepository, 60_000L, 100L);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Verify that a token with the current version isn't revoked")
+    void isRevoked_CurrentVersion_ReturnsFalse() {
+        when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.of(2));
+
+        assertFalse(revocationService.isRevoked(USER_ID, 2));
+        assertFalse(revocationService.isRevoked(USER_ID, 2));
+        verify(userRepository, times(1)).findTokenVersionById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Verify that a token with a stale ver claim is revoked")
+    void isRevoked_StaleVersion_ReturnsTrue() {
+        when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.of(3));
+
+        assertTrue(revocationService.isRevoked(USER_ID, 2));
+    }
+
+    @Test
+    @DisplayName("Verify that a token without a ver claim is revoked")
+    void isRevoked_NoVersion_ReturnsTrue() {
+        assertTrue(revocationService.isRevoked(USER_ID, null));
+    }
+
+    @Test
+    @DisplayName("Verify that a token of a deleted user is revoked")
+    void isRevoked_DeletedUser_ReturnsTrue() {
+        when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.empty());
+
+        assertTrue(revocationService.isRevoked(USER_ID, 0));
+    }
+
+    @Test
+    @DisplayName("Verify that the cached version is dropped only after the commit")
+    void revoke_InTransaction_ReloadsVersionAfterCommit() {
+        when(userRepository.findTokenVersionById(USER_ID))
+                .thenReturn(Optional.of(2), Optional.of(3));
+        assertFalse(revocationService.isRevoked(USER_ID, 2));
+        TransactionSynchronizationManager.initSynchronization();
+
+        revocationService.revoke(USER_ID);
+
+        assertFalse(revocationService.isRevoked(USER_ID, 2));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        assertTrue(revocationService.isRevoked(USER_ID, 2));
+    }
+}
@@ -0,0 +1,166 @@
+package book.store.service.book;
+
+import static book.store.config.CacheConfig.BOOKS_CACHE;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import book.store.config.CacheConfig;
+import book.store.dto.book.BookResponseDto;
+import book.store.dto.book.BookUpdateDto;
+import book.store.mapper.BookMapper;
+import book.store.model.Book;
+import book.store.repository.BookRepository;
+import book.store.repository.CategoryRepository;
+import book.store.service.book.search.BookSearchEngine;
+import book.store.telegram.notification.NotificationChannel;
+import book.store.telegram.strategy.notification.AdminNotificationService;
+import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
+import book.store.telegram.strategy.response.AdminResponseCache;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(
+        classes = {
+                CacheConfig.class,
+                BookServiceImpl.class,
+                BookServiceImplCacheTest.TransactionConfig.class},
+        properties = {
+                "spring.cache.type=caffeine",
+                "spring.cache.cache-names=" + BOOKS_CACHE})
+@ImportAutoConfiguration({CacheAutoConfiguration.class, TransactionAutoConfiguration.class})
+class BookServiceImplCacheTest {
+    private static final Long ID = 1L;
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @MockBean
+    private BookRepository bookRepository;
+    @MockBean
+    private BookMapper bookMapper;
+    @MockBean
+    private CategoryRepository categoryRepository;
+    @MockBean
+    private BookSearchEngine bookSearchEngine;
+    @MockBean
+    private AdminNotificationStrategy<Book> notificationStrategy;
+    @MockBean
+    private AdminResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(BOOKS_CACHE).clear();
+        Book book = new Book(ID);
+        when(bookRepository.findById(ID)).thenReturn(Optional.of(book));
+        when(bookMapper.toResponseDto(any(Book.class)))
+                .thenReturn(new BookResponseDto().setId(ID));
+        when(bookMapper.toModel(any(Book.class), any(BookUpdateDto.class))).thenReturn(book);
+        when(notificationStrategy.getNotificationService(
+                any(NotificationChannel.class), any(NotificationEventType.class)))
+                .thenReturn(mock(AdminNotificationService.class));
+    }
+
+    @Test
+    @DisplayName("Verify that a book is read from the repository once and then from the cache")
+    void getBookById_CalledTwice_LoadsBookOnce() {
+        bookService.getBookById(ID);
+        bookService.getBookById(ID);
+
+        verify(bookRepository, times(1)).findById(ID);
+    }
+
+    @Test
+    @DisplayName("Verify that an updated book is evicted only after the transaction commits")
+    void updateById_InTransaction_EvictsAfterCommit() {
+        bookService.getBookById(ID);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookService.updateById(ID, emptyUpdate());
+            assertNotNull(booksCache().get(ID));
+        });
+
+        assertNull(booksCache().get(ID));
+    }
+
+    @Test
+    @DisplayName("Verify that a failed update keeps the cached book")
+    void updateById_RolledBack_KeepsCachedBook() {
+        bookService.getBookById(ID);
+        when(bookRepository.save(any(Book.class))).thenThrow(new IllegalStateException());
+
+        assertThrows(IllegalStateException.class,
+                () -> bookService.updateById(ID, emptyUpdate()));
+
+        assertNotNull(booksCache().get(ID));
+    }
+
+    @Test
+    @DisplayName("Verify that a deleted book is evicted after the transaction commits")
+    void deleteById_Committed_EvictsBook() {
+        bookService.getBookById(ID);
+        when(bookRepository.findByIdWithoutCategories(ID)).thenReturn(Optional.of(new Book(ID)));
+
+        bookService.deleteById(ID);
+
+        assertNull(booksCache().get(ID));
+    }
+
+    private Cache booksCache() {
+        return cacheManager.getCache(BOOKS_CACHE);
+    }
+
+    private BookUpdateDto emptyUpdate() {
+        return new BookUpdateDto(null, null, null, null, null, null, null);
+    }
+
+    @TestConfiguration
+    static class TransactionConfig {
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package book.store.service.book.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import book.store.dto.book.BookCreateRequestDto;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BookCsvParserTest {
+    private static final String HEADER = "title,author,isbn,price,categoriesIds";
+
+    @Test
+    @DisplayName("Columns are taken from the header in any order, unknown columns are ignored")
+    void parse_ReorderedHeader_MapsColumnsByName() throws IOException {
+        BookCsvParser parser = parser("""
+                rating,categoriesIds,price,isbn,author,title,description
+                5, 1; 2 ,19.99,978-0441013593,Frank Herbert,Dune,
+                """);
+
+        BookCreateRequestDto actual = parser.parse(parser.readRow());
+
+        assertEquals(new BookCreateRequestDto("Dune", "Frank Herbert", "978-0441013593",
+                new BigDecimal("19.99"), null, null, Set.of(1L, 2L)), actual);
+    }
+
+    @Test
+    @DisplayName("Quoted values keep separators, escaped quotes and line breaks")
+    void readRow_QuotedValues_ReadsWholeRows() throws IOException {
+        BookCsvParser parser = parser(HEADER + ",description\n"
+                + "\"Dune, Part One\",Frank Herbert,978-0441013593,19.99,1,\"A \"\"desert\"\"\n"
+                + "planet\"\n"
+                + "Solaris,Stanislaw Lem,978-0156027601,12.50,3,\n");
+        List<BookCreateRequestDto> books = new ArrayList<>();
+        List<Long> lines = new ArrayList<>();
+        String row;
+        while ((row = parser.readRow()) != null) {
+            books.add(parser.parse(row));
+            lines.add(parser.getLine());
+        }
+
+        assertEquals(List.of(2L, 4L), lines);
+        assertEquals("Dune, Part One", books.get(0).title());
+        assertEquals("A \"desert\"\nplanet", books.get(0).description());
+        assertEquals("Solaris", books.get(1).title());
+        assertNull(books.get(1).description());
+    }
+
+    @Test
+    @DisplayName("Missing trailing values and blank values are parsed as nulls")
+    void parse_MissingValues_ReturnsNulls() throws IOException {
+        BookCsvParser parser = parser(HEADER + "\nDune,,978-0441013593\n");
+
+        BookCreateRequestDto actual = parser.parse(parser.readRow());
+
+        assertEquals(new BookCreateRequestDto(
+                "Dune", null, "978-0441013593", null, null, null, null), actual);
+    }
+
+    @Test
+    @DisplayName("A header without a required column is rejected")
+    void constructor_HeaderWithoutRequiredColumn_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> parser("title,author,isbn,price\n"));
+
+        assertEquals("CSV header should contain categoriesIds", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> parser(""));
+    }
+
+    @Test
+    @DisplayName("Rows with an unclosed quote or malformed numbers are rejected")
+    void parse_MalformedRow_ThrowsException() throws IOException {
+        BookCsvParser parser = parser(HEADER + "\n\"Dune,Frank Herbert,978-0441013593,19.99,1\n");
+
+        String row = parser.readRow();
+
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(row));
+        assertThrows(IllegalArgumentException.class,
+                () -> parser.parse("Dune,Frank Herbert,978-0441013593,cheap,1"));
+        assertThrows(IllegalArgumentException.class,
+                () -> parser.parse("Dune,Frank Herbert,978-0441013593,19.99,one"));
+    }
+
+    @Test
+    @DisplayName("A row with an unterminated quote is cut at the length limit and rejected")
+    void readRow_UnterminatedQuote_StopsAtLengthLimit() throws IOException {
+        String filler = ("x".repeat(1000) + "\n").repeat(70);
+        BookCsvParser parser = parser(HEADER + "\n\"Dune,Frank Herbert,978-0441013593,19.99,1\n"
+                + filler
+                + "Solaris,Stanislaw Lem,978-0156027601,12.50,3\n");
+
+        String unterminated = parser.readRow();
+
+        assertEquals(2L, parser.getLine());
+        assertTrue(unterminated.length() < BookCsvParser.MAX_ROW_LENGTH + 1001);
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> parser.parse(unterminated));
+        assertEquals("Quoted value isn't closed", exception.getMessage());
+        String row;
+        String last = null;
+        while ((row = parser.readRow()) != null) {
+            last = row;
+        }
+        assertEquals("Solaris", parser.parse(last).title());
+        assertEquals(73L, parser.getLine());
+    }
+
+    private BookCsvParser parser(String csv) throws IOException {
+        return new BookCsvParser(new BufferedReader(new StringReader(csv)));
+    }
+}
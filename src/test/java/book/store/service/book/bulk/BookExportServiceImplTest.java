@@ -0,0 +1,122 @@
+package book.store.service.book.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import book.store.dto.book.BookCreateRequestDto;
+import book.store.dto.book.BookExportRowDto;
+import book.store.repository.BookRepository;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.ScrollableResults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class BookExportServiceImplTest {
+    private static final List<BookCreateRequestDto> BOOKS = List.of(
+            new BookCreateRequestDto(
+                    "Dune",
+                    "Frank Herbert",
+                    "978-0441013593",
+                    new BigDecimal("19.99"),
+                    "A \"desert\" planet,\nspice and\r\nsandworms",
+                    null,
+                    Set.of(1L, 2L)),
+            new BookCreateRequestDto(
+                    "Solaris",
+                    "Stanislaw Lem",
+                    "978-0156027601",
+                    new BigDecimal("12.50"),
+                    null,
+                    "https://example.com/solaris.jpg",
+                    Set.of(3L)));
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private BookExportServiceImpl bookExportService;
+
+    @BeforeEach
+    void setUp() {
+        BookRepository bookRepository = mock(BookRepository.class);
+        when(bookRepository.scrollAllWithCategoriesIds(anyInt()))
+                .thenAnswer(invocation -> scroll(toRows(BOOKS)));
+        bookExportService = new BookExportServiceImpl(
+                bookRepository, objectMapper, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("Exported CSV is parsed back into the exported books")
+    void exportBooks_Csv_ImportedBack() throws IOException {
+        String csv = export(BookImportService.TEXT_CSV);
+        BookCsvParser parser = new BookCsvParser(new BufferedReader(new StringReader(csv)));
+        List<BookCreateRequestDto> actual = new ArrayList<>();
+        List<Long> lines = new ArrayList<>();
+        String row;
+        while ((row = parser.readRow()) != null) {
+            actual.add(parser.parse(row));
+            lines.add(parser.getLine());
+        }
+        List<BookCreateRequestDto> expected = List.of(
+                withDescription(BOOKS.get(0), "A \"desert\" planet,\nspice and\nsandworms"),
+                BOOKS.get(1));
+        assertEquals(expected, actual);
+        assertEquals(List.of(2L, 5L), lines);
+    }
+
+    @Test
+    @DisplayName("Exported NDJSON is read back as import rows")
+    void exportBooks_Ndjson_ImportedBack() throws IOException {
+        String ndjson = export(BookImportService.APPLICATION_NDJSON);
+        List<BookCreateRequestDto> actual = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            actual.add(objectMapper.readValue(line, BookCreateRequestDto.class));
+        }
+        assertEquals(BOOKS, actual);
+    }
+
+    private String export(String contentType) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        bookExportService.exportBooks(output, MediaType.valueOf(contentType));
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private BookCreateRequestDto withDescription(BookCreateRequestDto book, String description) {
+        return new BookCreateRequestDto(book.title(), book.author(), book.isbn(), book.price(),
+                description, book.coverImage(), book.categoriesIds());
+    }
+
+    private List<BookExportRowDto> toRows(List<BookCreateRequestDto> books) {
+        List<BookExportRowDto> rows = new ArrayList<>();
+        long id = 1;
+        for (BookCreateRequestDto book : books) {
+            for (Long categoryId : book.categoriesIds()) {
+                rows.add(new BookExportRowDto(id, book.title(), book.author(), book.isbn(),
+                        book.price(), book.description(), book.coverImage(), categoryId));
+            }
+            id++;
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ScrollableResults<BookExportRowDto> scroll(List<BookExportRowDto> rows) {
+        ScrollableResults<BookExportRowDto> results = mock(ScrollableResults.class);
+        int[] position = {-1};
+        when(results.next()).thenAnswer(invocation -> ++position[0] < rows.size());
+        when(results.get()).thenAnswer(invocation -> rows.get(position[0]));
+        return results;
+    }
+}
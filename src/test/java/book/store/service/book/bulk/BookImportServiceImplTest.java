@@ -0,0 +1,149 @@
+package book.store.service.book.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import book.store.dto.book.BookCreateRequestDto;
+import book.store.dto.book.BookImportErrorDto;
+import book.store.dto.book.BookImportResultDto;
+import book.store.mapper.BookMapper;
+import book.store.model.Book;
+import book.store.repository.BookRepository;
+import book.store.repository.CategoryRepository;
+import book.store.service.book.search.BookSearchEngine;
+import book.store.telegram.notification.NotificationChannel;
+import book.store.telegram.strategy.notification.AdminNotificationService;
+import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class BookImportServiceImplTest {
+    private static final String EXISTING_ISBN = "978-0156027601";
+    private static final String CONFLICTING_ISBN = "978-0765326355";
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final BookMapper bookMapper = mock(BookMapper.class);
+    private final BookSearchEngine bookSearchEngine = mock(BookSearchEngine.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final List<String> persistedIsbns = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    private final AdminNotificationService<BookImportResultDto> notificationService =
+            mock(AdminNotificationService.class);
+    private BookImportServiceImpl bookImportService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(categoryRepository.findAllIds()).thenReturn(Set.of(1L, 2L));
+        when(bookRepository.findAllIsbns()).thenReturn(Set.of(EXISTING_ISBN));
+        when(bookMapper.toModel(any(BookCreateRequestDto.class))).thenAnswer(invocation -> {
+            BookCreateRequestDto requestDto = invocation.getArgument(0);
+            Book book = new Book();
+            book.setTitle(requestDto.title());
+            book.setIsbn(requestDto.isbn());
+            return book;
+        });
+        doAnswer(invocation -> {
+            Book book = invocation.getArgument(0);
+            if (CONFLICTING_ISBN.equals(book.getIsbn())) {
+                throw new PersistenceException("Can't insert a book",
+                        new IllegalStateException("duplicate key value violates books_isbn_key"));
+            }
+            persistedIsbns.add(book.getIsbn());
+            return null;
+        }).when(entityManager).persist(any(Book.class));
+        AdminNotificationStrategy<BookImportResultDto> notificationStrategy =
+                mock(AdminNotificationStrategy.class);
+        when(notificationStrategy.getNotificationService(
+                NotificationChannel.TELEGRAM, NotificationEventType.BOOK_IMPORT))
+                .thenReturn(notificationService);
+        bookImportService = new BookImportServiceImpl(
+                bookRepository,
+                categoryRepository,
+                bookMapper,
+                bookSearchEngine,
+                new ObjectMapper().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                entityManager,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                notificationStrategy);
+        ReflectionTestUtils.setField(bookImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(bookImportService, "batchSize", 50);
+    }
+
+    @Test
+    @DisplayName("NDJSON rows are imported, rejected rows are reported with their line numbers")
+    void importBooks_NdjsonWithInvalidRows_ReportsErrors() throws IOException {
+        String body = """
+                {"title":"Dune","author":"Herbert","isbn":"978-0441013593","categoriesIds":[1]}
+                
+                {"title":"Solaris","author":"Lem","isbn":"%s","categoriesIds":[1]}
+                {"title":"Hyperion","author":"Simmons","isbn":"978-0553283686","categoriesIds":[7]}
+                {"title":"Neuromancer","id":4}
+                {"title":"Ubik","author":"Dick","isbn":"978-0547572291","categoriesIds":[2]}
+                """.formatted(EXISTING_ISBN);
+
+        BookImportResultDto actual = importBooks(body, BookImportService.APPLICATION_NDJSON);
+
+        assertEquals(2, actual.imported());
+        assertEquals(3, actual.failed());
+        assertEquals(List.of(3L, 4L, 5L), actual.errors()
+                .stream()
+                .map(BookImportErrorDto::line)
+                .toList());
+        assertEquals("A book with ISBN " + EXISTING_ISBN + " already exists",
+                actual.errors().get(0).message());
+        assertEquals("Can't find categories by ids [7]", actual.errors().get(1).message());
+        assertEquals(List.of("978-0441013593", "978-0547572291"), persistedIsbns);
+        verify(notificationService).sendMessage(null, actual);
+    }
+
+    @Test
+    @DisplayName("A failed chunk is retried row by row, so only the rejected row is reported")
+    void importBooks_FailedChunk_RetriesRowByRow() throws IOException {
+        String body = """
+                title,author,isbn,price,categoriesIds
+                Dune,Frank Herbert,978-0441013593,19.99,1
+                The Way of Kings,Brandon Sanderson,%s,9.99,1
+                Ubik,Philip K. Dick,978-0547572291,7.50,2
+                """.formatted(CONFLICTING_ISBN);
+
+        BookImportResultDto actual = importBooks(body, BookImportService.TEXT_CSV);
+
+        assertEquals(2, actual.imported());
+        assertEquals(List.of(new BookImportErrorDto(
+                        3, "duplicate key value violates books_isbn_key")),
+                actual.errors());
+        assertEquals(List.of("978-0441013593", "978-0441013593", "978-0547572291"),
+                persistedIsbns);
+        verify(bookSearchEngine, times(2)).index(any(Book.class));
+    }
+
+    private BookImportResultDto importBooks(String body, String contentType) throws IOException {
+        return bookImportService.importBooks(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                MediaType.valueOf(contentType));
+    }
+}
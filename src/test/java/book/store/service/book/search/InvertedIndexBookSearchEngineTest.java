@@ -0,0 +1,152 @@
+package book.store.service.book.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import book.store.dto.book.BookSearchParametersDto;
+import book.store.model.Book;
+import book.store.model.Category;
+import book.store.repository.BookRepository;
+import book.store.repository.specification.book.BookSpecificationBuilder;
+import book.store.repository.specification.book.impl.PriceSpecificationProvider;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class InvertedIndexBookSearchEngineTest {
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final BookSpecificationBuilder bookSpecificationBuilder =
+            mock(BookSpecificationBuilder.class);
+    private InvertedIndexBookSearchEngine searchEngine;
+
+    @BeforeEach
+    void setUp() {
+        when(bookRepository.findAllInOrder(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(Book::new).toList();
+        });
+        searchEngine = new InvertedIndexBookSearchEngine(
+                bookRepository,
+                bookSpecificationBuilder,
+                new PriceSpecificationProvider());
+        searchEngine.index(book(1L, "Dune", "Frank Herbert", "19.99", 1L));
+        searchEngine.index(book(2L, "Dune Messiah", "Frank Herbert", "14.50", 1L, 2L));
+        searchEngine.index(book(3L, "Solaris", "Stanislaw Lem", "12.00", 2L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Indexed params are combined, sorted and paged in memory")
+    void search_IndexedParams_ReturnsSortedPage() {
+        BookSearchParametersDto params = params("dun", "frank", null, null);
+
+        assertEquals(List.of(2L, 1L), search(params,
+                PageRequest.of(0, 10, Sort.by(Sort.Order.desc("title")))));
+        assertEquals(List.of(1L), search(params,
+                PageRequest.of(1, 1, Sort.by(Sort.Order.desc("title")))));
+    }
+
+    @Test
+    @DisplayName("Indexed matches are filtered by the price range and categories")
+    void search_PriceAndCategories_FiltersMatches() {
+        assertEquals(List.of(2L), search(
+                params("dune", null, List.of(new BigDecimal("15")), null),
+                PageRequest.of(0, 10, Sort.by("id"))));
+        assertEquals(List.of(2L, 3L), search(
+                params(null, null, null, Set.of(2L)),
+                PageRequest.of(0, 10, Sort.by("id"))));
+    }
+
+    @Test
+    @DisplayName("Facets of indexed matches are counted in memory")
+    void countByCategoryAndPrice_IndexedParams_CountsMatches() {
+        BookSearchParametersDto params = params("dune", null, null, null);
+
+        assertEquals(Map.of(1L, 2L, 2L, 1L), searchEngine.countByCategory(params));
+        assertEquals(Map.of(new BigDecimal("19.99"), 1L, new BigDecimal("14.50"), 1L),
+                searchEngine.countByPrice(params));
+    }
+
+    @Test
+    @DisplayName("Searches sorted by a property that isn't kept in memory go to the database")
+    void search_NotIndexedSortProperty_FallsBackToDatabase() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("coverImage"));
+        BookSearchParametersDto params = params("dune", null, null, null);
+        Specification<Book> specification = (root, query, criteriaBuilder) -> null;
+        when(bookSpecificationBuilder.build(params)).thenReturn(specification);
+        when(bookRepository.findPage(specification, pageable)).thenReturn(List.of(new Book(2L)));
+
+        assertEquals(List.of(2L), search(params, pageable));
+        verify(bookRepository).findPage(specification, pageable);
+    }
+
+    @Test
+    @DisplayName("A removed book is no longer found")
+    void remove_IndexedBook_RemovesFromAllIndexes() {
+        searchEngine.remove(1L);
+
+        assertEquals(List.of(2L), search(
+                params("dune", null, null, null), PageRequest.of(0, 10, Sort.by("id"))));
+        assertEquals(Map.of(1L, 1L, 2L, 2L),
+                searchEngine.countByCategory(params(null, null, null, Set.of(1L, 2L))));
+    }
+
+    @Test
+    @DisplayName("Writes made within a transaction are applied only after commit")
+    void indexAndRemove_InTransaction_AppliedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        searchEngine.index(book(4L, "Children of Dune", "Frank Herbert", "9.99", 1L));
+        searchEngine.remove(1L);
+        BookSearchParametersDto params = params("dune", null, null, null);
+
+        assertEquals(List.of(1L, 2L), search(params, PageRequest.of(0, 10, Sort.by("id"))));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of(2L, 4L), search(params, PageRequest.of(0, 10, Sort.by("id"))));
+    }
+
+    private List<Long> search(BookSearchParametersDto params, Pageable pageable) {
+        return searchEngine.search(params, pageable)
+                .stream()
+                .map(Book::getId)
+                .toList();
+    }
+
+    private BookSearchParametersDto params(
+            String title, String author, List<BigDecimal> priceBetween, Set<Long> categoriesIds) {
+        return new BookSearchParametersDto(title, author, null, priceBetween, categoriesIds);
+    }
+
+    private Book book(Long id, String title, String author, String price, Long... categoriesIds) {
+        Book book = new Book(id);
+        book.setTitle(title);
+        book.setAuthor(author);
+        book.setIsbn("isbn-" + id);
+        book.setPrice(new BigDecimal(price));
+        for (Long categoryId : categoriesIds) {
+            book.getCategories().add(new Category(categoryId));
+        }
+        return book;
+    }
+}
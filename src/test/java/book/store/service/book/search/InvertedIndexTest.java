@@ -0,0 +1,61 @@
+package book.store.service.book.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.add(1L, "The Lord of the Rings");
+        index.add(2L, "Lord-of-Light, 2nd edition");
+        index.add(3L, "Ringworld");
+    }
+
+    @Test
+    @DisplayName("Text is split on non-alphanumeric characters and matched case-insensitively")
+    void find_MixedCaseAndPunctuation_MatchesTokens() {
+        assertEquals(Set.of(2L), index.find("LIGHT"));
+        assertEquals(Set.of(2L), index.find("2nd"));
+        assertEquals(Set.of(1L, 2L), index.find("  lord!  "));
+    }
+
+    @Test
+    @DisplayName("A query token matches every indexed token it is a prefix of")
+    void find_Prefix_MatchesLongerTokens() {
+        assertEquals(Set.of(1L, 3L), index.find("ring"));
+        assertEquals(Set.of(1L, 2L), index.find("lo"));
+    }
+
+    @Test
+    @DisplayName("Several query tokens must all match")
+    void find_SeveralTokens_MatchesAll() {
+        assertEquals(Set.of(1L), index.find("lord ring"));
+        assertTrue(index.find("lord world").isEmpty());
+    }
+
+    @Test
+    @DisplayName("A query without tokens matches nothing")
+    void find_NoTokens_ReturnsEmptySet() {
+        assertTrue(index.find("--").isEmpty());
+        assertTrue(index.find(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Removed and re-added books are matched by their current text only")
+    void find_AfterRemoveAndReAdd_MatchesCurrentText() {
+        index.remove(1L);
+        index.add(3L, "Dune");
+
+        assertEquals(Set.of(2L), index.find("lord"));
+        assertTrue(index.find("ring").isEmpty());
+        assertEquals(Set.of(3L), index.find("du"));
+    }
+}
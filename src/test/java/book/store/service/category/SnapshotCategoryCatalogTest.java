@@ -0,0 +1,135 @@
+package book.store.service.category;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import book.store.dto.category.CategoryResponseDto;
+import book.store.mapper.impl.CategoryMapperImpl;
+import book.store.model.Category;
+import book.store.repository.CategoryRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class SnapshotCategoryCatalogTest {
+    private static final long TTL_MILLIS = 60_000;
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        when(categoryRepository.findAll(any(Sort.class))).thenReturn(List.of(
+                category(1L, "Fantasy", "Dragons"),
+                category(2L, "Drama", null),
+                category(3L, "Fantasy", "Elves")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Categories are sorted by every order of the page, ties are broken by id")
+    void getAll_SortedPage_ReturnsSortedCategories() {
+        SnapshotCategoryCatalog catalog = createCatalog(TTL_MILLIS);
+        Sort sort = Sort.by(Sort.Order.desc("name"), Sort.Order.asc("description"));
+
+        List<Long> ids = catalog.getAll(PageRequest.of(0, 3, sort))
+                .stream()
+                .map(CategoryResponseDto::id)
+                .toList();
+
+        assertEquals(List.of(1L, 3L, 2L), ids);
+    }
+
+    @Test
+    @DisplayName("Null descriptions are sorted last and pages are cut from the sorted list")
+    void getAll_SecondPage_SkipsFirstPage() {
+        SnapshotCategoryCatalog catalog = createCatalog(TTL_MILLIS);
+
+        List<CategoryResponseDto> actual = catalog.getAll(
+                PageRequest.of(1, 2, Sort.by(Sort.Order.asc("description"))));
+
+        assertEquals(List.of(new CategoryResponseDto(2L, "Drama", null)), actual);
+    }
+
+    @Test
+    @DisplayName("Sorting by an unknown property is rejected")
+    void getAll_UnknownSortProperty_ThrowsException() {
+        SnapshotCategoryCatalog catalog = createCatalog(TTL_MILLIS);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> catalog.getAll(PageRequest.of(0, 10, Sort.by("books"))));
+    }
+
+    @Test
+    @DisplayName("Reads are served from one snapshot until it is invalidated")
+    void getById_AfterInvalidate_ReloadsSnapshot() {
+        SnapshotCategoryCatalog catalog = createCatalog(TTL_MILLIS);
+
+        assertEquals(Optional.of(new CategoryResponseDto(2L, "Drama", null)),
+                catalog.getById(2L));
+        catalog.getAll(Pageable.unpaged());
+        verify(categoryRepository, times(1)).findAll(any(Sort.class));
+
+        catalog.invalidate();
+        catalog.getById(2L);
+        verify(categoryRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("Invalidation within a transaction drops the snapshot only after commit")
+    void invalidate_InTransaction_DropsSnapshotAfterCommit() {
+        SnapshotCategoryCatalog catalog = createCatalog(TTL_MILLIS);
+        catalog.getById(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        catalog.invalidate();
+        catalog.getById(1L);
+        verify(categoryRepository, times(1)).findAll(any(Sort.class));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        catalog.getById(1L);
+        verify(categoryRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("An expired snapshot is loaded again, so writes of other nodes are seen")
+    void getById_ExpiredSnapshot_ReloadsSnapshot() {
+        SnapshotCategoryCatalog catalog = createCatalog(0);
+        catalog.getById(1L);
+        when(categoryRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(category(1L, "Sci-Fi", "Robots")));
+
+        assertEquals(Optional.of(new CategoryResponseDto(1L, "Sci-Fi", "Robots")),
+                catalog.getById(1L));
+    }
+
+    private SnapshotCategoryCatalog createCatalog(long ttlMillis) {
+        return new SnapshotCategoryCatalog(
+                categoryRepository, new CategoryMapperImpl(), ttlMillis);
+    }
+
+    private Category category(Long id, String name, String description) {
+        Category category = new Category(id);
+        category.setName(name);
+        category.setDescription(description);
+        return category;
+    }
+}
@@ -0,0 +1,231 @@
+package book.store.service.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import book.store.dto.order.OrderResponseDto;
+import book.store.dto.order.item.CreateOrderItemRequestDto;
+import book.store.mapper.OrderItemMapper;
+import book.store.mapper.OrderMapper;
+import book.store.model.Book;
+import book.store.model.Order;
+import book.store.model.OrderItem;
+import book.store.model.Payment;
+import book.store.model.User;
+import book.store.repository.BookRepository;
+import book.store.repository.OrderItemRepository;
+import book.store.repository.OrderRepository;
+import book.store.repository.PaymentRepository;
+import book.store.repository.ShoppingCartRepository;
+import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.response.AdminResponseCache;
+import book.store.util.PriceCalculator;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OrderServiceImplTest {
+    private static final Long USER_ID = 1L;
+    private static final Long ORDER_ID = 5L;
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final ShoppingCartRepository shoppingCartRepository =
+            mock(ShoppingCartRepository.class);
+    private final OrderMapper orderMapper = mock(OrderMapper.class);
+    private final OrderItemMapper orderItemMapper = mock(OrderItemMapper.class);
+    private final OrderItemRepository orderItemRepository = mock(OrderItemRepository.class);
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final PlatformTransactionManager transactionManager =
+            mock(PlatformTransactionManager.class);
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        orderService = new OrderServiceImpl(
+                orderRepository,
+                shoppingCartRepository,
+                orderMapper,
+                orderItemMapper,
+                orderItemRepository,
+                mock(AdminNotificationStrategy.class),
+                paymentRepository,
+                bookRepository,
+                new PriceCalculator(),
+                new TransactionTemplate(transactionManager),
+                mock(AdminResponseCache.class));
+        when(orderMapper.toResponseDto(any(Order.class))).thenAnswer(invocation -> {
+            OrderResponseDto responseDto = new OrderResponseDto();
+            responseDto.setPrice(invocation.<Order>getArgument(0).getPrice());
+            return responseDto;
+        });
+    }
+
+    @Test
+    @DisplayName("Verify that placing an order copies the cart items and then clears the cart")
+    void placeOrder_CartWithItems_ClearsCart() {
+        when(shoppingCartRepository.getTotalPrice(USER_ID))
+                .thenReturn(Optional.of(new BigDecimal("31.48")));
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation ->
+                invocation.<Order>getArgument(0).setId(ORDER_ID));
+
+        OrderResponseDto actual = orderService.placeOrder(new User(USER_ID), "Main street");
+
+        assertEquals(new BigDecimal("31.48"), actual.getPrice());
+        InOrder inOrder = inOrder(orderItemRepository, shoppingCartRepository);
+        inOrder.verify(orderItemRepository).insertFromShoppingCart(ORDER_ID, USER_ID);
+        inOrder.verify(orderItemRepository).linkToOrder(ORDER_ID);
+        inOrder.verify(shoppingCartRepository).clearCartItems(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Verify that adding a new book adds its line price to the order total")
+    void add_NewBook_IncreasesTotal() {
+        final Order order = pendingOrder(orderItem(2L, 1L, "12.50"));
+        when(bookRepository.findByIdWithoutCategories(3L))
+                .thenReturn(Optional.of(book(3L, "0.10")));
+        OrderItem newItem = new OrderItem();
+        newItem.setBookId(3L);
+        newItem.setQuantity(3L);
+        when(orderItemMapper.toOrderItem(any(CreateOrderItemRequestDto.class)))
+                .thenReturn(newItem);
+
+        OrderResponseDto actual = orderService.add(
+                new User(USER_ID), new CreateOrderItemRequestDto(3L, 3));
+
+        assertEquals(new BigDecimal("12.80"), actual.getPrice());
+        assertEquals(new BigDecimal("0.30"), newItem.getPrice());
+        assertEquals(2, order.getOrderItems().size());
+    }
+
+    @Test
+    @DisplayName("Verify that adding a book already in the order adds only the price difference")
+    void add_SameBook_IncreasesTotalByDifference() {
+        OrderItem sameItem = orderItem(2L, 2L, "25.00");
+        pendingOrder(sameItem, orderItem(4L, 1L, "9.99"));
+        when(bookRepository.findByIdWithoutCategories(2L))
+                .thenReturn(Optional.of(book(2L, "12.50")));
+
+        OrderResponseDto actual = orderService.add(
+                new User(USER_ID), new CreateOrderItemRequestDto(2L, 1));
+
+        assertEquals(new BigDecimal("47.49"), actual.getPrice());
+        assertEquals(new BigDecimal("37.50"), sameItem.getPrice());
+        assertEquals(3L, sameItem.getQuantity());
+    }
+
+    @Test
+    @DisplayName("Verify that removing a book subtracts its line price from the order total")
+    void removeBookFromOrder_ExistingBook_DecreasesTotal() {
+        Order order = pendingOrder(orderItem(2L, 2L, "25.00"), orderItem(4L, 1L, "9.99"));
+
+        OrderResponseDto actual = orderService.removeBookFromOrder(new User(USER_ID), 2L);
+
+        assertEquals(new BigDecimal("9.99"), actual.getPrice());
+        assertEquals(1, order.getOrderItems().size());
+    }
+
+    @Test
+    @DisplayName("Verify that overdue orders are canceled chunk by chunk, each in a transaction")
+    void markOverdueOrdersAsCanceled_SeveralChunks_CancelsEveryChunk() {
+        ReflectionTestUtils.setField(orderService, "overdueChunkSize", 2);
+        LocalDate today = LocalDate.now();
+        stubOverdueIds(today, 0L, List.of(1L, 2L));
+        stubOverdueIds(today, 2L, List.of(4L, 6L));
+        stubOverdueIds(today, 6L, List.of(9L));
+
+        orderService.markOverdueOrdersAsCanceled();
+
+        verifyCanceled(today, 1L, 2L);
+        verifyCanceled(today, 4L, 6L);
+        verifyCanceled(today, 9L, 9L);
+        verify(orderRepository, never()).findIdsByStatusAndOrderDateBefore(
+                Order.Status.PENDING, today, 9L, PageRequest.of(0, 2));
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Verify that a full last chunk is followed by one more lookup that stops the run")
+    void markOverdueOrdersAsCanceled_FullLastChunk_StopsOnEmptyChunk() {
+        ReflectionTestUtils.setField(orderService, "overdueChunkSize", 2);
+        LocalDate today = LocalDate.now();
+        stubOverdueIds(today, 0L, List.of(1L, 2L));
+        stubOverdueIds(today, 2L, List.of(3L, 4L));
+        stubOverdueIds(today, 4L, List.of());
+
+        orderService.markOverdueOrdersAsCanceled();
+
+        verifyCanceled(today, 1L, 2L);
+        verifyCanceled(today, 3L, 4L);
+        verify(orderRepository).findIdsByStatusAndOrderDateBefore(
+                Order.Status.PENDING, today, 4L, PageRequest.of(0, 2));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    private void stubOverdueIds(LocalDate today, Long after, List<Long> ids) {
+        when(orderRepository.findIdsByStatusAndOrderDateBefore(
+                Order.Status.PENDING, today, after, PageRequest.of(0, 2)))
+                .thenReturn(ids);
+    }
+
+    private void verifyCanceled(LocalDate today, Long fromId, Long toId) {
+        verify(paymentRepository).updateStatusByOrderStatusAndOrderDate(
+                Payment.Status.PENDING, Order.Status.PENDING, today, fromId, toId,
+                Payment.Status.CANCELED);
+        verify(orderItemRepository).deleteByOrderStatusAndOrderDate(
+                Order.Status.PENDING, today, fromId, toId);
+        verify(orderRepository).updateStatusAndDelete(
+                Order.Status.PENDING, today, fromId, toId, Order.Status.CANCELED);
+    }
+
+    private Order pendingOrder(OrderItem... orderItems) {
+        Order order = new Order()
+                .setId(ORDER_ID)
+                .setUserId(USER_ID)
+                .setStatus(Order.Status.PENDING)
+                .setOrderItems(new HashSet<>());
+        BigDecimal price = BigDecimal.ZERO;
+        for (OrderItem orderItem : orderItems) {
+            orderItem.setOrder(order);
+            order.getOrderItems().add(orderItem);
+            price = price.add(orderItem.getPrice());
+        }
+        order.setPrice(price);
+        when(orderRepository.findByStatusAndUserId(Order.Status.PENDING, USER_ID))
+                .thenReturn(Optional.of(order));
+        return order;
+    }
+
+    private OrderItem orderItem(Long bookId, Long quantity, String price) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setId(bookId * 10);
+        orderItem.setBookId(bookId);
+        orderItem.setQuantity(quantity);
+        orderItem.setUserId(USER_ID);
+        orderItem.setPrice(new BigDecimal(price));
+        return orderItem;
+    }
+
+    private Book book(Long id, String price) {
+        Book book = new Book();
+        book.setId(id);
+        book.setPrice(new BigDecimal(price));
+        return book;
+    }
+}
@@ -0,0 +1,61 @@
+package book.store.telegram;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TelegramRateLimiterTest {
+    private static final long CHAT_INTERVAL_MILLIS = 1000;
+    private static final long GLOBAL_INTERVAL_MILLIS = 35;
+    private static final long CHAT_INTERVAL = TimeUnit.MILLISECONDS.toNanos(CHAT_INTERVAL_MILLIS);
+    private static final long GLOBAL_INTERVAL =
+            TimeUnit.MILLISECONDS.toNanos(GLOBAL_INTERVAL_MILLIS);
+    private final TelegramRateLimiter rateLimiter =
+            new TelegramRateLimiter(CHAT_INTERVAL_MILLIS, GLOBAL_INTERVAL_MILLIS);
+    private final long now = System.nanoTime();
+
+    @Test
+    @DisplayName("Verify that the second message to a chat waits for the chat interval")
+    void reserve_SameChat_WaitsChatInterval() {
+        assertEquals(0, rateLimiter.reserve(1L, now));
+        assertEquals(CHAT_INTERVAL, rateLimiter.reserve(1L, now));
+        assertEquals(2 * CHAT_INTERVAL, rateLimiter.reserve(1L, now));
+    }
+
+    @Test
+    @DisplayName("Verify that messages to different chats are spaced by the global interval")
+    void reserve_DifferentChats_WaitGlobalInterval() {
+        assertEquals(0, rateLimiter.reserve(1L, now));
+        assertEquals(GLOBAL_INTERVAL, rateLimiter.reserve(2L, now));
+        assertEquals(2 * GLOBAL_INTERVAL, rateLimiter.reserve(3L, now));
+    }
+
+    @Test
+    @DisplayName("Verify that a chat is messaged without waiting once its slot has passed")
+    void reserve_AfterChatInterval_DoesNotWait() {
+        rateLimiter.reserve(1L, now);
+
+        assertEquals(0, rateLimiter.reserve(1L, now + CHAT_INTERVAL));
+    }
+
+    @Test
+    @DisplayName("Verify that slots of chats which have passed are evicted")
+    void reserve_PassedSlots_AreEvicted() {
+        rateLimiter.reserve(1L, now);
+        rateLimiter.reserve(2L, now);
+        rateLimiter.reserve(3L, now + CHAT_INTERVAL / 2);
+
+        rateLimiter.reserve(4L, now + 2 * CHAT_INTERVAL);
+
+        assertEquals(Map.of(4L, now + 3 * CHAT_INTERVAL), nextChatSlots());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> nextChatSlots() {
+        return (Map<Long, Long>) ReflectionTestUtils.getField(rateLimiter, "nextChatSlots");
+    }
+}
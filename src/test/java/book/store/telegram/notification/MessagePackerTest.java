@@ -0,0 +1,69 @@
+package book.store.telegram.notification;
+
+import static book.store.telegram.notification.MessagePacker.TELEGRAM_MESSAGE_LIMIT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MessagePackerTest {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private final MessagePacker messagePacker = new MessagePacker();
+
+    @Test
+    @DisplayName("Verify that messages filling exactly the limit are packed into one text")
+    void pack_MessagesOfExactlyLimit_PacksOneText() {
+        String first = "a".repeat(2048);
+        String second = "b".repeat(TELEGRAM_MESSAGE_LIMIT - first.length()
+                - LINE_SEPARATOR.length());
+
+        List<String> packed = messagePacker.pack(List.of(first, second), TELEGRAM_MESSAGE_LIMIT);
+
+        assertEquals(List.of(first + LINE_SEPARATOR + second), packed);
+        assertEquals(TELEGRAM_MESSAGE_LIMIT, packed.get(0).length());
+    }
+
+    @Test
+    @DisplayName("Verify that a message one character over the limit starts a new text")
+    void pack_MessagesOverLimit_PacksTwoTexts() {
+        String first = "a".repeat(2048);
+        String second = "b".repeat(TELEGRAM_MESSAGE_LIMIT - first.length()
+                - LINE_SEPARATOR.length() + 1);
+
+        List<String> packed = messagePacker.pack(List.of(first, second), TELEGRAM_MESSAGE_LIMIT);
+
+        assertEquals(List.of(first, second), packed);
+    }
+
+    @Test
+    @DisplayName("Verify that a message longer than the limit is split")
+    void pack_MessageLongerThanLimit_SplitsIt() {
+        String message = "a".repeat(2 * TELEGRAM_MESSAGE_LIMIT + 1);
+
+        List<String> packed = messagePacker.pack(List.of(message), TELEGRAM_MESSAGE_LIMIT);
+
+        assertEquals(List.of(
+                "a".repeat(TELEGRAM_MESSAGE_LIMIT),
+                "a".repeat(TELEGRAM_MESSAGE_LIMIT),
+                "a"), packed);
+    }
+
+    @Test
+    @DisplayName("Verify that items are passed with the text that completes them")
+    void pack_Items_PassesItemsWithTheirTexts() {
+        List<String> texts = new ArrayList<>();
+        List<List<Integer>> items = new ArrayList<>();
+
+        messagePacker.pack(Stream.of(1, 2, 3), item -> "item" + item, 10,
+                (text, packed) -> {
+                    texts.add(text);
+                    items.add(packed);
+                });
+
+        assertEquals(List.of("item1", "item2", "item3"), texts);
+        assertEquals(List.of(List.of(1), List.of(2), List.of(3)), items);
+    }
+}
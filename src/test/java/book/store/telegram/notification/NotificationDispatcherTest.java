@@ -0,0 +1,122 @@
+package book.store.telegram.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import book.store.model.OutboxNotification;
+import book.store.repository.OutboxNotificationRepository;
+import book.store.telegram.notification.transport.InMemoryNotificationTransport;
+import book.store.telegram.notification.transport.InMemoryNotificationTransport.DeliveredNotification;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+
+@SpringBootTest(
+        classes = {
+                NotificationDispatcher.class,
+                MessagePacker.class,
+                TelegramNotificationService.class,
+                InMemoryNotificationTransport.class},
+        properties = {
+                "notification.transport=memory",
+                "notification.outbox.poll-interval-ms=60000",
+                "notification.batch.linger-ms=300"})
+class NotificationDispatcherTest {
+    private static final long TIMEOUT_MILLIS = 5000;
+    private final Map<Long, OutboxNotification> outbox = new ConcurrentSkipListMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+    @Autowired
+    private InMemoryNotificationTransport transport;
+    @MockBean
+    private OutboxNotificationRepository outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(outboxRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<OutboxNotification> notifications = invocation.getArgument(0);
+            notifications.forEach(notification -> outbox.put(
+                    ids.incrementAndGet(), notification.setId(ids.get())));
+            return notifications;
+        });
+        when(outboxRepository.findClaimableIds(any(), any(), any())).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(2);
+            return outbox.values()
+                    .stream()
+                    .filter(notification -> notification.getStatus()
+                            == OutboxNotification.Status.PENDING)
+                    .filter(notification -> notification.getClaimedBy() == null)
+                    .map(OutboxNotification::getId)
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        when(outboxRepository.claim(anyCollection(), any(), anyString(), any(), any()))
+                .thenAnswer(invocation -> {
+                    Collection<Long> claimedIds = invocation.getArgument(0);
+                    claimedIds.forEach(id -> outbox.get(id)
+                            .setClaimedBy(invocation.getArgument(2))
+                            .setClaimedUntil(invocation.<LocalDateTime>getArgument(3)));
+                    return claimedIds.size();
+                });
+        when(outboxRepository.findAllByClaimedByAndStatusOrderByIdAsc(anyString(), any()))
+                .thenAnswer(invocation -> outbox.values()
+                        .stream()
+                        .filter(notification -> invocation.getArgument(0)
+                                .equals(notification.getClaimedBy()))
+                        .filter(notification -> notification.getStatus()
+                                == invocation.getArgument(1))
+                        .toList());
+        when(outboxRepository.updateStatus(anyCollection(), any())).thenAnswer(invocation -> {
+            Collection<Long> updatedIds = invocation.getArgument(0);
+            updatedIds.forEach(id -> outbox.get(id).setStatus(invocation.getArgument(1)));
+            return updatedIds.size();
+        });
+    }
+
+    @Test
+    @DisplayName("Enqueued notifications are delivered to the memory transport as digests per chat")
+    void enqueue_MemoryTransport_DeliversDigests() throws InterruptedException {
+        notificationDispatcher.enqueue(
+                new PendingNotification(NotificationChannel.TELEGRAM, 1L, "Book 1 was created"));
+        notificationDispatcher.enqueue(
+                new PendingNotification(NotificationChannel.TELEGRAM, 2L, "Order 7 was placed"));
+        notificationDispatcher.enqueue(
+                new PendingNotification(NotificationChannel.TELEGRAM, 1L, "Book 2 was created"));
+
+        awaitDelivered(2);
+
+        assertEquals(List.of(
+                        new DeliveredNotification(1L, "Book 1 was created"
+                                + System.lineSeparator() + "Book 2 was created"),
+                        new DeliveredNotification(2L, "Order 7 was placed")),
+                transport.getNotifications());
+        assertTrue(outbox.values()
+                .stream()
+                .allMatch(notification -> notification.getStatus()
+                        == OutboxNotification.Status.SENT));
+    }
+
+    private void awaitDelivered(long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (transport.getDeliveredCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, transport.getDeliveredCount());
+    }
+}
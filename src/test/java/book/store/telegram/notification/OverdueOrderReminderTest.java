@@ -0,0 +1,106 @@
+package book.store.telegram.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import book.store.dto.order.OverdueOrderDto;
+import book.store.model.Order;
+import book.store.repository.OrderRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class OverdueOrderReminderTest {
+    private static final int PAGE_SIZE = 2;
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final NotificationDispatcher notificationDispatcher =
+            mock(NotificationDispatcher.class);
+    private final OverdueOrderReminder reminder = new OverdueOrderReminder(
+            orderRepository, new MessagePacker(), notificationDispatcher);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminder, "pageSize", PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Verify that admins are told there are no overdue orders")
+    void remindOfNotDeliveringOrders_NoOrders_SendsNoOrdersMessage() {
+        when(orderRepository.findOverdueAfter(
+                eq(Order.Status.PAID), any(LocalDate.class), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        reminder.remindOfNotDeliveringOrders();
+
+        assertEquals(List.of("No overdue orders today."), sentTexts(1));
+    }
+
+    @Test
+    @DisplayName("Verify that orders are read page by page after the last id of a page")
+    void remindOfNotDeliveringOrders_SeveralPages_SendsAllOrders() {
+        when(orderRepository.findOverdueAfter(
+                eq(Order.Status.PAID), any(LocalDate.class), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(order(1L), order(2L)));
+        when(orderRepository.findOverdueAfter(
+                eq(Order.Status.PAID), any(LocalDate.class), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(order(3L)));
+
+        reminder.remindOfNotDeliveringOrders();
+
+        String text = sentTexts(1).get(0);
+        assertTrue(text.startsWith("These orders are paid but not being delivered yet."));
+        assertTrue(text.contains("Order id: 1,"));
+        assertTrue(text.contains("Order id: 2,"));
+        assertTrue(text.contains("Order id: 3,"));
+        verify(orderRepository, times(2)).findOverdueAfter(
+                eq(Order.Status.PAID), any(LocalDate.class), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Verify that many orders are sent as digests within the Telegram limit")
+    void remindOfNotDeliveringOrders_ManyOrders_SendsDigestsWithinLimit() {
+        ReflectionTestUtils.setField(reminder, "pageSize", 200);
+        when(orderRepository.findOverdueAfter(
+                eq(Order.Status.PAID), any(LocalDate.class), eq(0L), any(Pageable.class)))
+                .thenReturn(LongStream.rangeClosed(1, 100).mapToObj(this::order).toList());
+
+        reminder.remindOfNotDeliveringOrders();
+
+        ArgumentCaptor<PendingNotification> captor =
+                ArgumentCaptor.forClass(PendingNotification.class);
+        verify(notificationDispatcher, atLeast(2)).enqueue(captor.capture());
+        List<String> texts = captor.getAllValues().stream()
+                .map(PendingNotification::text)
+                .toList();
+        texts.forEach(text -> assertTrue(text.length() <= MessagePacker.TELEGRAM_MESSAGE_LIMIT));
+        String joined = String.join(System.lineSeparator(), texts);
+        LongStream.rangeClosed(1, 100).forEach(id ->
+                assertTrue(joined.contains("Order id: " + id + ",")));
+    }
+
+    private List<String> sentTexts(int count) {
+        ArgumentCaptor<PendingNotification> captor =
+                ArgumentCaptor.forClass(PendingNotification.class);
+        verify(notificationDispatcher, times(count)).enqueue(captor.capture());
+        return captor.getAllValues().stream().map(PendingNotification::text).toList();
+    }
+
+    private OverdueOrderDto order(long id) {
+        return new OverdueOrderDto(id, id, LocalDate.of(2024, 1, 1), new BigDecimal("10.00"),
+                "Long shipping address in the middle of nowhere.");
+    }
+}
@@ -0,0 +1,177 @@
+package book.store.telegram.strategy.response;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import book.store.mapper.OrderItemMapper;
+import book.store.mapper.OrderMapper;
+import book.store.mapper.PaymentMapper;
+import book.store.model.Order;
+import book.store.model.Payment;
+import book.store.model.User;
+import book.store.repository.BookRepository;
+import book.store.repository.OrderItemRepository;
+import book.store.repository.OrderRepository;
+import book.store.repository.PaymentRepository;
+import book.store.repository.ShoppingCartRepository;
+import book.store.service.order.OrderServiceImpl;
+import book.store.service.payment.PaymentServiceImpl;
+import book.store.telegram.notification.NotificationChannel;
+import book.store.telegram.strategy.notification.AdminNotificationService;
+import book.store.telegram.strategy.notification.AdminNotificationStrategy;
+import book.store.telegram.strategy.notification.NotificationEventType;
+import book.store.telegram.strategy.response.impl.AdminGetOrderResponseService;
+import book.store.telegram.strategy.response.impl.AdminGetPaymentResponseService;
+import book.store.util.PriceCalculator;
+import book.store.util.StripeUtil;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class AdminResponseCacheTest {
+    private static final Long USER_ID = 3L;
+    private static final Long ORDER_ID = 1L;
+    private static final Long PAYMENT_ID = 2L;
+    private static final String GET_ORDER = "Get info about an order with id: " + ORDER_ID;
+    private static final String GET_PAYMENT = "Get info about a payment with id: " + PAYMENT_ID;
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final AdminResponseCache responseCache = new AdminResponseCache(60_000, 100);
+    private final AdminGetOrderResponseService orderResponseService =
+            new AdminGetOrderResponseService(orderRepository, responseCache);
+    private final AdminGetPaymentResponseService paymentResponseService =
+            new AdminGetPaymentResponseService(paymentRepository, responseCache);
+    private Order order;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        order = new Order()
+                .setId(ORDER_ID)
+                .setUserId(USER_ID)
+                .setOrderDate(LocalDate.of(2024, 1, 1))
+                .setPrice(new BigDecimal("10.99"))
+                .setStatus(Order.Status.PENDING)
+                .setShippingAddress("Main street");
+        payment = new Payment()
+                .setId(PAYMENT_ID)
+                .setUserId(USER_ID)
+                .setOrderId(ORDER_ID)
+                .setAmountToPay(new BigDecimal("10.99"))
+                .setStatus(Payment.Status.PENDING);
+        when(orderRepository.findByIdWithOrderItems(ORDER_ID)).thenAnswer(
+                invocation -> Optional.of(copy(order)));
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order));
+        when(orderRepository.findByUserIdAndStatus(USER_ID, Order.Status.PENDING))
+                .thenReturn(Optional.of(order));
+        when(paymentRepository.findById(PAYMENT_ID)).thenAnswer(
+                invocation -> Optional.of(copy(payment)));
+        when(paymentRepository.findByUserIdAndStatus(USER_ID, Payment.Status.PENDING))
+                .thenReturn(Optional.of(payment));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Verify that a cached order response is refreshed after its status changes")
+    void getMessage_AfterOrderStatusUpdate_ReturnsNewStatus() {
+        assertTrue(orderResponseService.getMessage(GET_ORDER).contains("Status: PENDING"));
+
+        orderService().updateStatus(ORDER_ID, "DELIVERING");
+
+        assertTrue(orderResponseService.getMessage(GET_ORDER).contains("Status: DELIVERING"));
+    }
+
+    @Test
+    @DisplayName("Verify that cached payment and order responses are refreshed after a payment")
+    void getMessage_AfterSuccessfulPayment_ReturnsPaidStatuses() {
+        assertTrue(paymentResponseService.getMessage(GET_PAYMENT).contains("Status: PENDING"));
+        assertTrue(orderResponseService.getMessage(GET_ORDER).contains("Status: PENDING"));
+
+        paymentService().success(new User(USER_ID));
+
+        assertTrue(paymentResponseService.getMessage(GET_PAYMENT).contains("Status: PAID"));
+        assertTrue(orderResponseService.getMessage(GET_ORDER).contains("Status: PAID"));
+    }
+
+    @Test
+    @DisplayName("Verify that a cached response is refreshed only after the change commits")
+    void getMessage_ChangeInTransaction_RefreshedAfterCommit() {
+        orderResponseService.getMessage(GET_ORDER);
+        TransactionSynchronizationManager.initSynchronization();
+
+        orderService().updateStatus(ORDER_ID, "SHIPPED");
+
+        assertTrue(orderResponseService.getMessage(GET_ORDER).contains("Status: PENDING"));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        assertTrue(orderResponseService.getMessage(GET_ORDER).contains("Status: SHIPPED"));
+    }
+
+    private OrderServiceImpl orderService() {
+        return new OrderServiceImpl(
+                orderRepository,
+                mock(ShoppingCartRepository.class),
+                mock(OrderMapper.class),
+                mock(OrderItemMapper.class),
+                mock(OrderItemRepository.class),
+                notificationStrategy(),
+                paymentRepository,
+                mock(BookRepository.class),
+                mock(PriceCalculator.class),
+                mock(TransactionTemplate.class),
+                responseCache);
+    }
+
+    private PaymentServiceImpl paymentService() {
+        return new PaymentServiceImpl(
+                notificationStrategy(),
+                paymentRepository,
+                orderRepository,
+                mock(PaymentMapper.class),
+                mock(StripeUtil.class),
+                responseCache);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> AdminNotificationStrategy<T> notificationStrategy() {
+        AdminNotificationStrategy<T> notificationStrategy = mock(AdminNotificationStrategy.class);
+        when(notificationStrategy.getNotificationService(
+                any(NotificationChannel.class), any(NotificationEventType.class)))
+                .thenReturn(mock(AdminNotificationService.class));
+        return notificationStrategy;
+    }
+
+    private Order copy(Order order) {
+        return new Order()
+                .setId(order.getId())
+                .setUserId(order.getUserId())
+                .setOrderDate(order.getOrderDate())
+                .setPrice(order.getPrice())
+                .setStatus(order.getStatus())
+                .setShippingAddress(order.getShippingAddress());
+    }
+
+    private Payment copy(Payment payment) {
+        return new Payment()
+                .setId(payment.getId())
+                .setUserId(payment.getUserId())
+                .setOrderId(payment.getOrderId())
+                .setAmountToPay(payment.getAmountToPay())
+                .setStatus(payment.getStatus());
+    }
+}
@@ -0,0 +1,51 @@
+package book.store.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PriceCalculatorTest {
+    private final PriceCalculator priceCalculator = new PriceCalculator();
+
+    @Test
+    @DisplayName("Verify that a line price keeps the scale of the unit price")
+    void getLinePrice_ValidQuantity_KeepsScale() {
+        BigDecimal actual = priceCalculator.getLinePrice(new BigDecimal("6.25"), 2);
+
+        assertEquals(new BigDecimal("12.50"), actual);
+        assertEquals(2, actual.scale());
+    }
+
+    @Test
+    @DisplayName("Verify that a line price is exact where double arithmetic would round")
+    void getLinePrice_FractionalPrice_ReturnsExactAmount() {
+        BigDecimal actual = priceCalculator.getLinePrice(new BigDecimal("0.10"), 3);
+
+        assertEquals(new BigDecimal("0.30"), actual);
+    }
+
+    @Test
+    @DisplayName("Verify that a total price is the exact sum of the line prices")
+    void getTotalPrice_SeveralItems_ReturnsExactSum() {
+        List<BigDecimal> prices = List.of(
+                new BigDecimal("0.10"), new BigDecimal("0.20"), new BigDecimal("19.99"));
+
+        BigDecimal actual = priceCalculator.getTotalPrice(prices, Function.identity());
+
+        assertEquals(new BigDecimal("20.29"), actual);
+        assertEquals(2, actual.scale());
+    }
+
+    @Test
+    @DisplayName("Verify that a total price of no items is zero")
+    void getTotalPrice_NoItems_ReturnsZero() {
+        BigDecimal actual = priceCalculator.getTotalPrice(
+                List.<BigDecimal>of(), Function.identity());
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(actual));
+    }
+}
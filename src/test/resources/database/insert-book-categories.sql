@@ -0,0 +1,8 @@
+INSERT INTO book_categories (book_id, category_id)
+VALUES
+    (1, 1),
+    (2, 1),
+    (2, 2),
+    (3, 2),
+    (4, 3),
+    (5, 1);